@@ -0,0 +1,227 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.klojang.check.CommonChecks.GTE;
+import static org.klojang.check.CommonChecks.gte;
+
+/*
+ * Validates that all elements of an int[], long[] or double[] array are
+ * non-negative. All elements pass. The score is arrays per second; the secondary
+ * "elements" score is elements per second. The variants:
+ *
+ * handCoded           - a loop with an if/throw per element
+ * handCoded_Reduction - a loop folding all elements into one value, followed by a
+ *                       single if/throw. Without an early exit C2 may vectorize
+ *                       the loop.
+ * perElementCheck     - a loop calling Check.that(values[i]).is(gte(), 0)
+ * parallelStream      - the same, through IntStream.range().parallel()
+ * forkJoin            - the same, with a RecursiveAction splitting the array into
+ *                       chunks of LEAF_SIZE elements
+ *
+ * The parallel variants run in a ForkJoinPool with the given parallelism (0 means
+ * one thread per processor). Pass -p parallelism=1,2,4,8 to see how they scale.
+ * For long and double values Klojang Check boxes each element (GTE instead of
+ * gte).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class BulkValidation {
+
+  public enum ElementType {
+    INT, LONG, DOUBLE
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Counters {
+    public long elements;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      elements = 0;
+    }
+  }
+
+  private static final int LEAF_SIZE = 8192;
+
+  @Param({"1000", "10000", "100000", "1000000", "10000000"})
+  public int size;
+
+  @Param({"INT", "LONG", "DOUBLE"})
+  public ElementType elementType;
+
+  @Param({"0"})
+  public int parallelism;
+
+  public int[] ints;
+  public long[] longs;
+  public double[] doubles;
+  public ForkJoinPool pool;
+
+  @Benchmark
+  public int handCoded(Counters counters) {
+    counters.elements += size;
+    switch (elementType) {
+      case INT -> {
+        for (int i = 0; i < ints.length; ++i) {
+          if (ints[i] < 0) {
+            throw new IllegalArgumentException("negative value at index " + i);
+          }
+        }
+      }
+      case LONG -> {
+        for (int i = 0; i < longs.length; ++i) {
+          if (longs[i] < 0) {
+            throw new IllegalArgumentException("negative value at index " + i);
+          }
+        }
+      }
+      case DOUBLE -> {
+        for (int i = 0; i < doubles.length; ++i) {
+          if (doubles[i] < 0) {
+            throw new IllegalArgumentException("negative value at index " + i);
+          }
+        }
+      }
+    }
+    return size;
+  }
+
+  @Benchmark
+  public int handCoded_Reduction(Counters counters) {
+    counters.elements += size;
+    boolean negative = switch (elementType) {
+      case INT -> {
+        int bits = 0;
+        for (int i = 0; i < ints.length; ++i) {
+          bits |= ints[i];
+        }
+        yield bits < 0;
+      }
+      case LONG -> {
+        long bits = 0;
+        for (int i = 0; i < longs.length; ++i) {
+          bits |= longs[i];
+        }
+        yield bits < 0;
+      }
+      case DOUBLE -> {
+        double min = 0;
+        for (int i = 0; i < doubles.length; ++i) {
+          min = Math.min(min, doubles[i]);
+        }
+        yield min < 0;
+      }
+    };
+    if (negative) {
+      throw new IllegalArgumentException("array contains negative values");
+    }
+    return size;
+  }
+
+  @Benchmark
+  public int perElementCheck(Counters counters) {
+    counters.elements += size;
+    checkRange(0, size);
+    return size;
+  }
+
+  @Benchmark
+  public int parallelStream(Counters counters) {
+    counters.elements += size;
+    pool.submit(() -> IntStream.range(0, size)
+        .parallel()
+        .forEach(this::checkElement)).join();
+    return size;
+  }
+
+  @Benchmark
+  public int forkJoin(Counters counters) {
+    counters.elements += size;
+    pool.invoke(new Split(0, size));
+    return size;
+  }
+
+  private final class Split extends RecursiveAction {
+
+    private final int from;
+    private final int to;
+
+    Split(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= LEAF_SIZE) {
+        checkRange(from, to);
+      } else {
+        int mid = (from + to) >>> 1;
+        invokeAll(new Split(from, mid), new Split(mid, to));
+      }
+    }
+
+  }
+
+  private void checkRange(int from, int to) {
+    switch (elementType) {
+      case INT -> {
+        for (int i = from; i < to; ++i) {
+          Check.that(ints[i]).is(gte(), 0);
+        }
+      }
+      case LONG -> {
+        for (int i = from; i < to; ++i) {
+          Check.that(longs[i]).is(GTE(), 0L);
+        }
+      }
+      case DOUBLE -> {
+        for (int i = from; i < to; ++i) {
+          Check.that(doubles[i]).is(GTE(), 0D);
+        }
+      }
+    }
+  }
+
+  private void checkElement(int i) {
+    switch (elementType) {
+      case INT -> Check.that(ints[i]).is(gte(), 0);
+      case LONG -> Check.that(longs[i]).is(GTE(), 0L);
+      case DOUBLE -> Check.that(doubles[i]).is(GTE(), 0D);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    switch (elementType) {
+      case INT -> ints = rand.ints(size, 0, Integer.MAX_VALUE).toArray();
+      case LONG -> longs = rand.longs(size, 0, Long.MAX_VALUE).toArray();
+      case DOUBLE -> doubles = rand.doubles(size, 0, 1_000_000).toArray();
+    }
+    pool = new ForkJoinPool(parallelism == 0
+        ? Runtime.getRuntime().availableProcessors()
+        : parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    pool.shutdown();
+    pool.awaitTermination(1, TimeUnit.MINUTES);
+  }
+
+}
@@ -0,0 +1,86 @@
+package jmh.nl.naturalis.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.instanceOf;
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.CommonChecks.notNull;
+
+/*
+ * The latency of the very first check in a fresh JVM. Each fork performs exactly one
+ * invocation, so the score includes loading and initializing the classes of
+ * Klojang Check (Check, CommonChecks, the message tables) and bootstrapping the
+ * lambdas involved. handCoded is the baseline. Run with -prof cl to see how many
+ * classes each variant loads. Since forks are cheap here, there are many of them.
+ * runner.ColdStartCds runs this suite with and without an AppCDS archive.
+ *
+ * Nothing in this class may touch Klojang Check outside the benchmark methods.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 20, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 0)
+@Measurement(iterations = 1, batchSize = 1)
+public class ColdStart {
+
+  public Object testVal;
+  public int smallInt;
+  public int bigInt;
+
+  @Benchmark
+  public Object handCoded() {
+    if (testVal == null) {
+      throw new IllegalArgumentException("arg must not be null");
+    }
+    return testVal;
+  }
+
+  @Benchmark
+  public Object prefabMessage_NotNull() {
+    return Check.that(testVal).is(notNull()).ok();
+  }
+
+  @Benchmark
+  public int prefabMessage_LessThan() {
+    return Check.that(smallInt).is(lt(), bigInt).ok();
+  }
+
+  @Benchmark
+  public Object prefabMessage_InstanceOf() {
+    return Check.that(testVal).is(instanceOf(), CharSequence.class).ok();
+  }
+
+  @Benchmark
+  public Object customMessage_WithMsgArgs() {
+    return Check.that(testVal).is(notNull(), "${arg} must not be ${obj}").ok();
+  }
+
+  @Benchmark
+  public Object customException() {
+    return Check.that(testVal)
+        .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
+        .ok();
+  }
+
+  // The first failed check also pays for generating the prefab message
+  @Benchmark
+  public Object prefabMessage_FailPath() {
+    try {
+      return Check.that(smallInt).is(lt(), -bigInt).ok();
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    testVal = "Hello, World";
+    smallInt = 42;
+    bigInt = 1000;
+  }
+
+}
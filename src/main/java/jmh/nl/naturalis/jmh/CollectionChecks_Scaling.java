@@ -0,0 +1,221 @@
+package jmh.nl.naturalis.jmh;
+
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.deepNotEmpty;
+import static org.klojang.check.CommonChecks.deepNotNull;
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.CommonChecks.notEmpty;
+import static org.klojang.check.CommonProperties.length;
+import static org.klojang.check.CommonProperties.size;
+
+/*
+ * Collection and array checks for collections of 0 to 1,000,000 elements, each
+ * compared with a hand-coded loop. All values pass the checks, except for the empty
+ * collections, which fail notEmpty() and deepNotEmpty(). Run with -prof gc (or with
+ * AllocationGate) to see whether the checks allocate per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class CollectionChecks_Scaling {
+
+  public enum Structure {
+    ARRAY_LIST, HASH_SET, ARRAY, NESTED_LIST
+  }
+
+  @Param({"0", "1", "10", "100", "1000", "10000", "100000", "1000000"})
+  public int size;
+
+  @Param({"ARRAY_LIST", "HASH_SET", "ARRAY", "NESTED_LIST"})
+  public Structure structure;
+
+  // Either collection or array is set, depending on the structure
+  public Object value;
+  public Collection<Object> collection;
+  public Object[] array;
+  public int limit;
+
+  @Benchmark
+  public void notEmpty_handCoded(Blackhole bh) {
+    try {
+      if (isEmpty(value)) {
+        throw new IllegalArgumentException("arg must not be empty");
+      }
+      bh.consume(value);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void notEmpty_prefabMessage(Blackhole bh) {
+    try {
+      bh.consume(Check.that(value).is(notEmpty()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void deepNotNull_handCoded(Blackhole bh) {
+    try {
+      if (containsNull(value)) {
+        throw new IllegalArgumentException("arg must not contain null values");
+      }
+      bh.consume(value);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void deepNotNull_prefabMessage(Blackhole bh) {
+    try {
+      bh.consume(Check.that(value).is(deepNotNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_handCoded(Blackhole bh) {
+    try {
+      if (isDeepEmpty(value)) {
+        throw new IllegalArgumentException("arg must not contain empty values");
+      }
+      bh.consume(value);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void deepNotEmpty_prefabMessage(Blackhole bh) {
+    try {
+      bh.consume(Check.that(value).is(deepNotEmpty()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void sizeLessThan_handCoded(Blackhole bh) {
+    try {
+      int n = array == null ? collection.size() : array.length;
+      if (n >= limit) {
+        throw new IllegalArgumentException("too many elements");
+      }
+      bh.consume(value);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void sizeLessThan_prefabMessage(Blackhole bh) {
+    try {
+      if (array == null) {
+        bh.consume(Check.that(collection).has(size(), lt(), limit).ok());
+      } else {
+        bh.consume(Check.that(array).has(length(), lt(), limit).ok());
+      }
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    List<Object> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      String s = "s" + i;
+      elements.add(structure == Structure.NESTED_LIST ? List.of(s) : s);
+    }
+    switch (structure) {
+      case ARRAY_LIST, NESTED_LIST -> collection = elements;
+      case HASH_SET -> collection = new HashSet<>(elements);
+      case ARRAY -> array = elements.toArray();
+    }
+    value = array == null ? collection : array;
+    limit = size + 1;
+  }
+
+  private static boolean isEmpty(Object value) {
+    if (value instanceof Collection<?> c) {
+      return c.isEmpty();
+    }
+    return ((Object[]) value).length == 0;
+  }
+
+  private static boolean containsNull(Object value) {
+    if (value instanceof Collection<?> c) {
+      for (Object e : c) {
+        if (e == null) {
+          return true;
+        }
+      }
+      return false;
+    }
+    for (Object e : (Object[]) value) {
+      if (e == null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // The same recursion as deepNotEmpty(): a value is empty if it is null, an empty
+  // string, collection, map or array, or a collection, map or array containing an
+  // empty value
+  private static boolean isDeepEmpty(Object value) {
+    if (value == null) {
+      return true;
+    } else if (value instanceof CharSequence cs) {
+      return cs.isEmpty();
+    } else if (value instanceof Collection<?> c) {
+      if (c.isEmpty()) {
+        return true;
+      }
+      for (Object e : c) {
+        if (isDeepEmpty(e)) {
+          return true;
+        }
+      }
+      return false;
+    } else if (value instanceof Map<?, ?> m) {
+      if (m.isEmpty()) {
+        return true;
+      }
+      for (Map.Entry<?, ?> e : m.entrySet()) {
+        if (isDeepEmpty(e.getKey()) || isDeepEmpty(e.getValue())) {
+          return true;
+        }
+      }
+      return false;
+    } else if (value instanceof Object[] a) {
+      if (a.length == 0) {
+        return true;
+      }
+      for (Object e : a) {
+        if (isDeepEmpty(e)) {
+          return true;
+        }
+      }
+      return false;
+    } else if (value.getClass().isArray()) {
+      return Array.getLength(value) == 0;
+    }
+    return false;
+  }
+
+}
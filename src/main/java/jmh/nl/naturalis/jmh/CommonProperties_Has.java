@@ -0,0 +1,229 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.LT;
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.CommonChecks.lte;
+import static org.klojang.check.CommonChecks.sameAs;
+import static org.klojang.check.CommonProperties.abs;
+import static org.klojang.check.CommonProperties.length;
+import static org.klojang.check.CommonProperties.mapSize;
+import static org.klojang.check.CommonProperties.size;
+import static org.klojang.check.CommonProperties.strlen;
+import static org.klojang.check.CommonProperties.type;
+
+/*
+ * has(property, relation, value) for the properties in CommonProperties, each next
+ * to the equivalent hand-coded accessor. Generalizes HasTypeEqualTo. With
+ * passRate=100 all values pass the check, with passRate=0 they all fail it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class CommonProperties_Has {
+
+  private static final int MAX_SIZE = 10;
+  private static final int MAX_STRLEN = 16;
+  private static final int MAX_ABS = 100;
+
+  @Param({"100", "0"})
+  public double passRate;
+
+  public ObjectRing<List<String>> lists;
+  public ObjectRing<String[]> arrays;
+  public ObjectRing<String> strings;
+  public ObjectRing<Map<String, String>> maps;
+  public ObjectRing<Integer> integers;
+  public ObjectRing<Object> objects;
+
+  @Benchmark
+  public void size_handCoded(Blackhole bh) {
+    List<String> list = lists.next();
+    try {
+      if (list.size() >= MAX_SIZE) {
+        throw new IllegalArgumentException("too many elements");
+      }
+      bh.consume(list);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void size_prefabMessage(Blackhole bh) {
+    List<String> list = lists.next();
+    try {
+      bh.consume(Check.that(list).has(size(), lt(), MAX_SIZE).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void length_handCoded(Blackhole bh) {
+    String[] array = arrays.next();
+    try {
+      if (array.length >= MAX_SIZE) {
+        throw new IllegalArgumentException("too many elements");
+      }
+      bh.consume(array);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void length_prefabMessage(Blackhole bh) {
+    String[] array = arrays.next();
+    try {
+      bh.consume(Check.that(array).has(length(), lt(), MAX_SIZE).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void strlen_handCoded(Blackhole bh) {
+    String string = strings.next();
+    try {
+      if (string.length() > MAX_STRLEN) {
+        throw new IllegalArgumentException("string too long");
+      }
+      bh.consume(string);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void strlen_prefabMessage(Blackhole bh) {
+    String string = strings.next();
+    try {
+      bh.consume(Check.that(string).has(strlen(), lte(), MAX_STRLEN).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void mapSize_handCoded(Blackhole bh) {
+    Map<String, String> map = maps.next();
+    try {
+      if (map.size() >= MAX_SIZE) {
+        throw new IllegalArgumentException("too many entries");
+      }
+      bh.consume(map);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void mapSize_prefabMessage(Blackhole bh) {
+    Map<String, String> map = maps.next();
+    try {
+      bh.consume(Check.that(map).has(mapSize(), lt(), MAX_SIZE).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void abs_handCoded(Blackhole bh) {
+    Integer integer = integers.next();
+    try {
+      if (Math.abs(integer) >= MAX_ABS) {
+        throw new IllegalArgumentException("value out of range");
+      }
+      bh.consume(integer);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void abs_prefabMessage(Blackhole bh) {
+    Integer integer = integers.next();
+    try {
+      bh.consume(Check.that(integer).has(abs(), LT(), MAX_ABS).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void type_handCoded(Blackhole bh) {
+    Object object = objects.next();
+    try {
+      if (object.getClass() != Double.class) {
+        throw new IllegalArgumentException("argument has wrong type");
+      }
+      bh.consume(object);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void type_prefabMessage(Blackhole bh) {
+    Object object = objects.next();
+    try {
+      bh.consume(Check.that(object).has(type(), sameAs(), Double.class).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    boolean[] failures = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        rand);
+    // Sizes 1 - 9 pass, sizes 10 - 12 fail
+    List<List<String>> sizedLists = new ArrayList<>();
+    for (int size = 0; size <= MAX_SIZE + 2; ++size) {
+      List<String> list = new ArrayList<>();
+      for (int i = 0; i < size; ++i) {
+        list.add("s" + i);
+      }
+      sizedLists.add(list);
+    }
+    lists = Rings.objects(i -> sizedLists.get(failures[i]
+        ? rand.nextInt(MAX_SIZE, MAX_SIZE + 3)
+        : rand.nextInt(1, MAX_SIZE)));
+    arrays = Rings.objects(i -> lists.get(i).toArray(String[]::new));
+    maps = Rings.objects(i -> {
+      Map<String, String> map = new HashMap<>();
+      lists.get(i).forEach(s -> map.put(s, s));
+      return map;
+    });
+    strings = Rings.objects(i -> "x".repeat(failures[i]
+        ? rand.nextInt(MAX_STRLEN + 1, MAX_STRLEN + 5)
+        : rand.nextInt(5, MAX_STRLEN + 1)));
+    // abs() returns a boxed value. Only the failing values lie outside the Integer
+    // cache, so only they may cause abs() to allocate.
+    integers = Rings.objects(i -> {
+      int value = failures[i]
+          ? rand.nextInt(1000, 2000)
+          : rand.nextInt(-MAX_ABS + 1, MAX_ABS);
+      return Integer.valueOf(failures[i] && rand.nextBoolean() ? -value : value);
+    });
+    objects = Rings.objects(i -> failures[i]
+        ? (Object) rand.nextFloat()
+        : (Object) rand.nextDouble());
+  }
+
+}
@@ -0,0 +1,178 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.klojang.check.relation.ComposableIntPredicate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.LT;
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.relation.Compose.invalidInt;
+import static org.klojang.check.relation.Compose.validInt;
+
+/*
+ * Builds and tests a chain of chainLength clauses with the Compose API, and compares
+ * it with the same chain written as a short-circuiting boolean expression. The
+ * clauses are joined with and() (AND), or() (OR), or alternately with and() and
+ * or() (ALTERNATING). Like the Compose API, the hand-coded expression evaluates the
+ * chain from left to right, without operator precedence. Boolean clauses
+ * (and(left < right)) are evaluated while the chain is built. Relation-based
+ * clauses (andThat(left, lt(), right)) are evaluated when the chain is tested, and
+ * can be skipped once the outcome is known. With MIXED_SUBJECTS, the relation-based
+ * clauses alternately compare ints and strings. decidingClause determines which
+ * clause (if any) decides the outcome: in an AND chain that is the first clause that
+ * fails, in an OR chain the first clause that passes. With NONE, an AND chain
+ * passes and an OR chain fails. In an ALTERNATING chain decidingClause is the one
+ * clause that fails, which does not necessarily change the outcome.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class ComposeLongChain {
+
+  public enum Connective {
+    AND, OR, ALTERNATING
+  }
+
+  public enum ClauseMix {
+    BOOLEAN, RELATION, MIXED, MIXED_SUBJECTS
+  }
+
+  public enum ClauseKind {
+    BOOLEAN, INT_RELATION, STRING_RELATION
+  }
+
+  public enum DecidingClause {
+    NONE, FIRST, MIDDLE, LAST
+  }
+
+  // Powers of two, so that clause k always reads slot k of its ring segment
+  @Param({"1", "2", "4", "8", "16", "32"})
+  public int chainLength;
+
+  @Param({"AND", "OR", "ALTERNATING"})
+  public Connective connective;
+
+  @Param({"BOOLEAN", "RELATION", "MIXED", "MIXED_SUBJECTS"})
+  public ClauseMix clauseMix;
+
+  @Param({"NONE", "FIRST", "MIDDLE", "LAST"})
+  public DecidingClause decidingClause;
+
+  public IntRing lefts;
+  public IntRing rights;
+  public ObjectRing<String> leftStrings;
+  public ObjectRing<String> rightStrings;
+  public IntRing subjects;
+  public ClauseKind[] kinds;
+  public boolean[] ors;
+  public int offset;
+
+  @Benchmark
+  public void handCoded(Blackhole bh) {
+    int subject = subjects.next();
+    int from = offset;
+    offset += chainLength;
+    try {
+      boolean ok = connective != Connective.OR;
+      for (int k = 0; k < chainLength; ++k) {
+        if (ors[k] == ok) {
+          // Short-circuited. Unless the connectives alternate, so are the
+          // remaining clauses.
+          if (connective != Connective.ALTERNATING) {
+            break;
+          }
+          continue;
+        }
+        int i = from + k;
+        ok = kinds[k] == ClauseKind.STRING_RELATION
+            ? leftStrings.get(i).compareTo(rightStrings.get(i)) < 0
+            : lefts.get(i) < rights.get(i);
+      }
+      if (!ok) {
+        throw new IllegalArgumentException("rule violated");
+      }
+      bh.consume(subject);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void composed(Blackhole bh) {
+    int subject = subjects.next();
+    int from = offset;
+    offset += chainLength;
+    try {
+      ComposableIntPredicate rule = connective == Connective.OR
+          ? invalidInt()
+          : validInt();
+      for (int k = 0; k < chainLength; ++k) {
+        int i = from + k;
+        rule = switch (kinds[k]) {
+          case BOOLEAN -> ors[k]
+              ? rule.or(lefts.get(i) < rights.get(i))
+              : rule.and(lefts.get(i) < rights.get(i));
+          case INT_RELATION -> ors[k]
+              ? rule.orThat(lefts.get(i), lt(), rights.get(i))
+              : rule.andThat(lefts.get(i), lt(), rights.get(i));
+          case STRING_RELATION -> ors[k]
+              ? rule.orThat(leftStrings.get(i), LT(), rightStrings.get(i))
+              : rule.andThat(leftStrings.get(i), LT(), rightStrings.get(i));
+        };
+      }
+      bh.consume(Check.that(subject).is(rule).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    int decideAt = switch (decidingClause) {
+      case NONE -> -1;
+      case FIRST -> 0;
+      case MIDDLE -> chainLength / 2;
+      case LAST -> chainLength - 1;
+    };
+    // In an OR chain all clauses but the deciding one fail, otherwise they pass
+    boolean pass = connective != Connective.OR;
+    lefts = Rings.ints(i -> (i % chainLength == decideAt) != pass
+        ? rand.nextInt(13, 97)
+        : rand.nextInt(100_000_000, 100_500_000));
+    rights = Rings.ints(i -> rand.nextInt(1000, 2000));
+    // Zero-padded, so the strings compare the same way as the ints
+    leftStrings = Rings.objects(i -> String.format("%09d", lefts.get(i)));
+    rightStrings = Rings.objects(i -> String.format("%09d", rights.get(i)));
+    subjects = Rings.ints(i -> rand.nextInt(13, 97));
+    kinds = new ClauseKind[chainLength];
+    ors = new boolean[chainLength];
+    for (int k = 0; k < chainLength; ++k) {
+      kinds[k] = switch (clauseMix) {
+        case BOOLEAN -> ClauseKind.BOOLEAN;
+        case RELATION -> ClauseKind.INT_RELATION;
+        case MIXED -> k % 2 == 1 ? ClauseKind.INT_RELATION : ClauseKind.BOOLEAN;
+        case MIXED_SUBJECTS -> k % 2 == 1
+            ? ClauseKind.STRING_RELATION
+            : ClauseKind.INT_RELATION;
+      };
+      ors[k] = switch (connective) {
+        case AND -> false;
+        case OR -> true;
+        case ALTERNATING -> k % 2 == 1;
+      };
+    }
+    offset = 0;
+  }
+
+}
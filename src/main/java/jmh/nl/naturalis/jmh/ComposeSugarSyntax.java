@@ -1,5 +1,7 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -18,47 +20,30 @@ import static org.klojang.check.relation.Compose.validInt;
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
 public class ComposeSugarSyntax {
 
-  public Random rand = new Random();
-  int[] ints;
-  public int small;
-  public int big;
-  public int counter0;
-  public int counter1;
+  public IntRing smalls;
+  public IntRing bigs;
 
   @Benchmark
   public void bitter(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(validInt().and(small < big));
   }
 
   @Benchmark
   public void sweet(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(validInt().andThat(small, lt(), big));
   }
 
   @Setup(Level.Trial)
   public void beforeBenchmark() {
-    Random rand = new Random();
-    ints = new int[1000];
-    for (int i = 0; i < 1000; ++i) {
-      ints[i] = rand.nextInt(1000, 2000);
-    }
-  }
-
-  @Setup(Level.Invocation)
-  public void beforeInvocation() {
-
-    if (counter0++ % 2 == 0) {
-      small = rand.nextInt(100_000_000, 100_500_000);
-    } else {
-      small = rand.nextInt(13, 97);
-    }
-
-    if (counter1 == 999) {
-      counter1 = 0;
-    } else {
-      ++counter1;
-    }
-    big = ints[counter1];
+    Random rand = Rings.random();
+    smalls = Rings.ints(i -> i % 2 == 0
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
   }
 
 }
@@ -0,0 +1,174 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.containsKey;
+import static org.klojang.check.CommonChecks.in;
+import static org.klojang.check.CommonChecks.inArray;
+import static org.klojang.check.CommonChecks.subsetOf;
+import static org.klojang.check.CommonChecks.supersetOf;
+
+/*
+ * Checks whether a string is one of a set of allowed values, using the relation
+ * that fits the data structure (containsKey() for maps, in() for collections,
+ * inArray() for arrays), and whether a small set of strings is a subset of the
+ * allowed values, using subsetOf() and supersetOf(). Each is compared with calling
+ * Map.containsKey, Collection.contains or Collection.containsAll directly. For
+ * arrays, subsetOf() and supersetOf() run against Arrays.asList(array). The values
+ * that are not found fail the check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Containment_Scaling {
+
+  public enum Structure {
+    HASH_MAP, TREE_MAP, LIST, SET_OF, ARRAY
+  }
+
+  private static final int QUERY_SIZE = 4;
+
+  @Param({"HASH_MAP", "TREE_MAP", "LIST", "SET_OF", "ARRAY"})
+  public Structure structure;
+
+  @Param({"10", "100", "1000", "10000"})
+  public int size;
+
+  @Param({"100", "90", "50"})
+  public double hitRate;
+
+  public Map<String, String> map;
+  public Collection<String> collection;
+  public String[] array;
+  // The keys of the map, the collection, or the array wrapped into a List
+  public Collection<String> all;
+
+  public ObjectRing<String> keys;
+  public ObjectRing<List<String>> queries;
+
+  @Benchmark
+  public void contains_handCoded(Blackhole bh) {
+    String key = keys.next();
+    try {
+      boolean found = switch (structure) {
+        case HASH_MAP, TREE_MAP -> map.containsKey(key);
+        case ARRAY -> indexOf(array, key) != -1;
+        default -> collection.contains(key);
+      };
+      if (!found) {
+        throw new IllegalArgumentException("illegal value");
+      }
+      bh.consume(key);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void contains_prefabMessage(Blackhole bh) {
+    String key = keys.next();
+    try {
+      switch (structure) {
+        case HASH_MAP, TREE_MAP -> bh.consume(Check.that(map)
+            .is(containsKey(), key)
+            .ok());
+        case ARRAY -> bh.consume(Check.that(key).is(inArray(), array).ok());
+        default -> bh.consume(Check.that(key).is(in(), collection).ok());
+      }
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void containsAll_handCoded(Blackhole bh) {
+    List<String> query = queries.next();
+    try {
+      if (!all.containsAll(query)) {
+        throw new IllegalArgumentException("illegal value");
+      }
+      bh.consume(query);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void subsetOf_prefabMessage(Blackhole bh) {
+    List<String> query = queries.next();
+    try {
+      bh.consume(Check.that(query).is(subsetOf(), all).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void supersetOf_prefabMessage(Blackhole bh) {
+    List<String> query = queries.next();
+    try {
+      bh.consume(Check.that(all).is(supersetOf(), query).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    array = new String[size];
+    for (int i = 0; i < size; ++i) {
+      array[i] = "value" + i;
+    }
+    switch (structure) {
+      case HASH_MAP, TREE_MAP -> {
+        map = structure == Structure.HASH_MAP ? new HashMap<>() : new TreeMap<>();
+        for (String s : array) {
+          map.put(s, s);
+        }
+        all = map.keySet();
+      }
+      case LIST -> all = collection = new ArrayList<>(Arrays.asList(array));
+      case SET_OF -> all = collection = Set.of(array);
+      case ARRAY -> all = Arrays.asList(array);
+    }
+    // Strings that are equal to, but not the same as, the allowed values
+    boolean[] misses = FailurePattern.UNIFORM_RANDOM.layout(Rings.DEFAULT_SIZE,
+        hitRate,
+        rand);
+    keys = Rings.objects(i -> misses[i]
+        ? "illegal" + rand.nextInt(size)
+        : new String(array[rand.nextInt(size)]));
+    queries = Rings.objects(i -> {
+      List<String> query = new ArrayList<>(QUERY_SIZE);
+      for (int j = 0; j < QUERY_SIZE; ++j) {
+        query.add(new String(array[rand.nextInt(size)]));
+      }
+      if (misses[i]) {
+        query.set(QUERY_SIZE - 1, "illegal" + rand.nextInt(size));
+      }
+      return query;
+    });
+  }
+
+  private static int indexOf(String[] array, String key) {
+    for (int i = 0; i < array.length; ++i) {
+      if (array[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
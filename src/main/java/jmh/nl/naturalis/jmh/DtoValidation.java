@@ -0,0 +1,247 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.dto.LineItem;
+import jmh.nl.naturalis.jmh.dto.OrderRequest;
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.COUNTRIES;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.COUPON_CODE;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.CURRENCIES;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.CUSTOMER_ID_LENGTH;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.EMAIL;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_AGE;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_AMOUNT;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_ATTRIBUTES;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_ITEMS;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_NAME_LENGTH;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_PRIORITY;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_QUANTITY;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MAX_TAGS;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MIN_AGE;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.MIN_PRIORITY;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.ORDER_ID;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.PHONE;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.POSTAL_CODE;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.SKU;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.STATUSES;
+import static jmh.nl.naturalis.jmh.dto.OrderRequests.create;
+import static org.klojang.check.CommonChecks.GTE;
+import static org.klojang.check.CommonChecks.LT;
+import static org.klojang.check.CommonChecks.deepNotNull;
+import static org.klojang.check.CommonChecks.eq;
+import static org.klojang.check.CommonChecks.gt;
+import static org.klojang.check.CommonChecks.gte;
+import static org.klojang.check.CommonChecks.in;
+import static org.klojang.check.CommonChecks.lte;
+import static org.klojang.check.CommonChecks.notNull;
+import static org.klojang.check.CommonChecks.positive;
+import static org.klojang.check.CommonProperties.mapSize;
+import static org.klojang.check.CommonProperties.size;
+import static org.klojang.check.CommonProperties.strlen;
+
+/*
+ * Validates a complete OrderRequest (20 fields: null checks, string lengths,
+ * regular expressions, numeric ranges, set membership, nested lists) per
+ * invocation, so the score is the cost of validating one request. The rules are
+ * documented in OrderRequests. invalidRate is the percentage of requests that
+ * violate one of the rules; validation then stops at the offending field. The
+ * Klojang Check variant tags each check with the name of the field, as it would in
+ * production code. For throughput numbers, run with -bm thrpt -tu s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class DtoValidation {
+
+  private static final Predicate<String> VALID_ORDER_ID =
+      ORDER_ID.asMatchPredicate();
+  private static final Predicate<String> VALID_EMAIL = EMAIL.asMatchPredicate();
+  private static final Predicate<String> VALID_PHONE = PHONE.asMatchPredicate();
+  private static final Predicate<String> VALID_POSTAL_CODE =
+      POSTAL_CODE.asMatchPredicate();
+  private static final Predicate<String> VALID_COUPON_CODE =
+      COUPON_CODE.asMatchPredicate();
+  private static final Predicate<String> VALID_SKU = SKU.asMatchPredicate();
+
+  @Param({"0", "1", "10"})
+  public double invalidRate;
+
+  public ObjectRing<OrderRequest> requests;
+
+  @Benchmark
+  public void handCoded(Blackhole bh) {
+    OrderRequest request = requests.next();
+    try {
+      bh.consume(validateHandCoded(request));
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    OrderRequest request = requests.next();
+    try {
+      bh.consume(validateWithCheck(request));
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static OrderRequest validateHandCoded(OrderRequest r) {
+    if (r.orderId() == null || !VALID_ORDER_ID.test(r.orderId())) {
+      throw new IllegalArgumentException("invalid orderId");
+    }
+    if (r.customerId() == null || r.customerId().length() != CUSTOMER_ID_LENGTH) {
+      throw new IllegalArgumentException("invalid customerId");
+    }
+    if (r.email() == null || !VALID_EMAIL.test(r.email())) {
+      throw new IllegalArgumentException("invalid email");
+    }
+    checkNameHandCoded(r.firstName(), "firstName");
+    checkNameHandCoded(r.lastName(), "lastName");
+    if (r.phone() != null && !VALID_PHONE.test(r.phone())) {
+      throw new IllegalArgumentException("invalid phone");
+    }
+    checkNameHandCoded(r.street(), "street");
+    checkNameHandCoded(r.city(), "city");
+    if (r.postalCode() == null || !VALID_POSTAL_CODE.test(r.postalCode())) {
+      throw new IllegalArgumentException("invalid postalCode");
+    }
+    if (!COUNTRIES.contains(r.countryCode())) {
+      throw new IllegalArgumentException("invalid countryCode");
+    }
+    if (!CURRENCIES.contains(r.currency())) {
+      throw new IllegalArgumentException("invalid currency");
+    }
+    if (!STATUSES.contains(r.status())) {
+      throw new IllegalArgumentException("invalid status");
+    }
+    if (r.age() < MIN_AGE || r.age() > MAX_AGE) {
+      throw new IllegalArgumentException("age out of range");
+    }
+    if (r.quantity() <= 0 || r.quantity() > MAX_QUANTITY) {
+      throw new IllegalArgumentException("quantity out of range");
+    }
+    if (r.amount() < 0 || r.amount() >= MAX_AMOUNT) {
+      throw new IllegalArgumentException("amount out of range");
+    }
+    if (r.priority() != null
+        && (r.priority() < MIN_PRIORITY || r.priority() > MAX_PRIORITY)) {
+      throw new IllegalArgumentException("priority out of range");
+    }
+    if (r.couponCode() != null && !VALID_COUPON_CODE.test(r.couponCode())) {
+      throw new IllegalArgumentException("invalid couponCode");
+    }
+    List<LineItem> items = r.items();
+    if (items == null || items.isEmpty() || items.size() > MAX_ITEMS) {
+      throw new IllegalArgumentException("invalid number of items");
+    }
+    for (LineItem item : items) {
+      if (item == null) {
+        throw new IllegalArgumentException("items must not contain null");
+      }
+      if (item.sku() == null || !VALID_SKU.test(item.sku())) {
+        throw new IllegalArgumentException("invalid sku");
+      }
+      if (item.quantity() <= 0) {
+        throw new IllegalArgumentException("item quantity must be positive");
+      }
+      if (item.unitPrice() < 0) {
+        throw new IllegalArgumentException("unit price must not be negative");
+      }
+    }
+    List<String> tags = r.tags();
+    if (tags == null || tags.size() > MAX_TAGS || tags.contains(null)) {
+      throw new IllegalArgumentException("invalid tags");
+    }
+    Map<String, String> attributes = r.attributes();
+    if (attributes == null || attributes.size() > MAX_ATTRIBUTES) {
+      throw new IllegalArgumentException("invalid attributes");
+    }
+    return r;
+  }
+
+  private static void checkNameHandCoded(String name, String field) {
+    if (name == null || name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+      throw new IllegalArgumentException("invalid " + field);
+    }
+  }
+
+  private static OrderRequest validateWithCheck(OrderRequest r) {
+    Check.that(r.orderId(), "orderId").is(notNull()).is(VALID_ORDER_ID);
+    Check.that(r.customerId(), "customerId")
+        .is(notNull())
+        .has(strlen(), eq(), CUSTOMER_ID_LENGTH);
+    Check.that(r.email(), "email").is(notNull()).is(VALID_EMAIL);
+    checkNameWithCheck(r.firstName(), "firstName");
+    checkNameWithCheck(r.lastName(), "lastName");
+    if (r.phone() != null) {
+      Check.that(r.phone(), "phone").is(VALID_PHONE);
+    }
+    checkNameWithCheck(r.street(), "street");
+    checkNameWithCheck(r.city(), "city");
+    Check.that(r.postalCode(), "postalCode").is(notNull()).is(VALID_POSTAL_CODE);
+    Check.that(r.countryCode(), "countryCode").is(in(), COUNTRIES);
+    Check.that(r.currency(), "currency").is(in(), CURRENCIES);
+    Check.that(r.status(), "status").is(in(), STATUSES);
+    Check.that(r.age(), "age").is(gte(), MIN_AGE).is(lte(), MAX_AGE);
+    Check.that(r.quantity(), "quantity").is(positive()).is(lte(), MAX_QUANTITY);
+    Check.that(r.amount(), "amount").is(GTE(), 0D).is(LT(), MAX_AMOUNT);
+    if (r.priority() != null) {
+      Check.that(r.priority().intValue(), "priority")
+          .is(gte(), MIN_PRIORITY)
+          .is(lte(), MAX_PRIORITY);
+    }
+    if (r.couponCode() != null) {
+      Check.that(r.couponCode(), "couponCode").is(VALID_COUPON_CODE);
+    }
+    Check.that(r.items(), "items")
+        .is(deepNotNull())
+        .has(size(), gt(), 0)
+        .has(size(), lte(), MAX_ITEMS);
+    for (LineItem item : r.items()) {
+      Check.that(item.sku(), "sku").is(notNull()).is(VALID_SKU);
+      Check.that(item.quantity(), "quantity").is(positive());
+      Check.that(item.unitPrice(), "unitPrice").is(GTE(), 0D);
+    }
+    Check.that(r.tags(), "tags")
+        .is(deepNotNull())
+        .has(size(), lte(), MAX_TAGS);
+    Check.that(r.attributes(), "attributes")
+        .is(notNull())
+        .has(mapSize(), lte(), MAX_ATTRIBUTES);
+    return r;
+  }
+
+  private static void checkNameWithCheck(String name, String field) {
+    Check.that(name, field)
+        .is(notNull())
+        .has(strlen(), gt(), 0)
+        .has(strlen(), lte(), MAX_NAME_LENGTH);
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    boolean[] failures = FailurePattern.UNIFORM_RANDOM.layout(Rings.DEFAULT_SIZE,
+        100 - invalidRate,
+        rand);
+    requests = Rings.objects(i -> create(rand, !failures[i]));
+  }
+
+}
@@ -0,0 +1,158 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.klojang.check.CommonChecks.lt;
+
+/*
+ * The cost of the exception supplier passed to a customException-style check, on
+ * the pass path (_Pass) and on the fail path (_Fail). The supplier is either a
+ * static constant (as in HasTypeEqualTo), a non-capturing lambda (as in the
+ * customException benchmarks), a lambda capturing one value, or a lambda capturing
+ * several values. A non-capturing lambda evaluates to a cached instance, but a
+ * capturing lambda is instantiated on every call - on the pass path too - unless
+ * C2's escape analysis gets rid of it. Run with -prof gc (or with AllocationGate)
+ * to see the bytes allocated per operation. Only the variants that cannot allocate
+ * on the pass path declare an allocation budget.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class ExceptionSupplier_Capture {
+
+  private static final Supplier<IllegalArgumentException> EXC =
+      () -> new IllegalArgumentException("argument too big");
+
+  public IntRing passing;
+  public IntRing failing;
+  public IntRing bigs;
+  public String argName;
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void handCoded_Pass(Blackhole bh) {
+    handCoded(passing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void staticSupplier_Pass(Blackhole bh) {
+    staticSupplier(passing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void nonCapturing_Pass(Blackhole bh) {
+    nonCapturing(passing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  public void capturingOne_Pass(Blackhole bh) {
+    capturingOne(passing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  public void capturingSeveral_Pass(Blackhole bh) {
+    capturingSeveral(passing.next(), bigs.next(), argName, bh);
+  }
+
+  @Benchmark
+  public void handCoded_Fail(Blackhole bh) {
+    handCoded(failing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  public void staticSupplier_Fail(Blackhole bh) {
+    staticSupplier(failing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  public void nonCapturing_Fail(Blackhole bh) {
+    nonCapturing(failing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  public void capturingOne_Fail(Blackhole bh) {
+    capturingOne(failing.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  public void capturingSeveral_Fail(Blackhole bh) {
+    capturingSeveral(failing.next(), bigs.next(), argName, bh);
+  }
+
+  private static void handCoded(int small, int big, Blackhole bh) {
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException("argument too big");
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void staticSupplier(int small, int big, Blackhole bh) {
+    try {
+      bh.consume(Check.that(small).is(lt(), big, EXC).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void nonCapturing(int small, int big, Blackhole bh) {
+    try {
+      bh.consume(Check.that(small)
+          .is(lt(), big, () -> new IllegalArgumentException("argument too big"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void capturingOne(int small, int big, Blackhole bh) {
+    try {
+      bh.consume(Check.that(small)
+          .is(lt(), big, () -> new IllegalArgumentException("must be < " + big))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void capturingSeveral(int small,
+      int big,
+      String name,
+      Blackhole bh) {
+    try {
+      bh.consume(Check.that(small)
+          .is(lt(), big, () -> new IllegalArgumentException(
+              name + " must be < " + big + " (was " + small + ")"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    passing = Rings.ints(i -> rand.nextInt(13, 97));
+    failing = Rings.ints(i -> rand.nextInt(100_000_000, 100_500_000));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
+    argName = "quantity";
+  }
+
+}
@@ -1,5 +1,8 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -17,15 +20,17 @@ import static org.klojang.check.CommonProperties.type;
 @Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
 @Warmup(iterations = 4, time = 3)
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
 public class HasTypeEqualTo {
 
   private static final Supplier<IllegalArgumentException> EXC =
       () -> new IllegalArgumentException("argument has wrong type");
 
-  public Object testVal;
+  public ObjectRing<Object> testVals;
 
   @Benchmark
   public void handCoded(Blackhole bh) {
+    Object testVal = testVals.next();
     if (testVal.getClass() != Double.class) {
       throw new IllegalArgumentException("argument has wrong type");
     }
@@ -34,48 +39,20 @@ public class HasTypeEqualTo {
 
   @Benchmark
   public void arg_getClass_isSameAs(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal.getClass()).is(sameAs(), Double.class, EXC).ok());
   }
 
   @Benchmark
   public void arg_hasType_sameAs(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal).has(type(), sameAs(), Double.class, EXC).ok());
   }
 
-  public int counter0 = 0;
-  public int counter1 = 0;
-
-  public Object[] doubles;
-  public Random rand;
-
   @Setup(Level.Trial)
   public void init() {
-    if (rand == null) {
-      rand = new Random();
-    }
-    doubles = new Double[10000];
-    for (int i = 0; i < 10000; ++i) {
-      doubles[i] = rand.nextDouble();
-    }
-  }
-
-  @Setup(Level.Iteration)
-  public void beforeIteration() {
-    //Collections.shuffle(Arrays.asList(doubles));
-  }
-
-  @Setup(Level.Invocation)
-  public void setup() {
-    if (counter0 < 10000) {
-      testVal = doubles[counter0];
-    } else {
-      if (counter1++ == 100) {
-        init();
-        counter1 = 0;
-      }
-      testVal = doubles[counter0 = 0];
-    }
-    counter0++;
+    Random rand = Rings.random();
+    testVals = Rings.objects(i -> rand.nextDouble());
   }
 
 }
@@ -0,0 +1,63 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
+public class InputFeedOverhead {
+
+  public int constInt = 42;
+  public Object constObj = "Hello, world!";
+
+  public IntRing ints0;
+  public IntRing ints1;
+  public ObjectRing<Object> objects;
+
+  @Benchmark
+  public void fieldInt(Blackhole bh) {
+    bh.consume(constInt);
+  }
+
+  @Benchmark
+  public void fieldObject(Blackhole bh) {
+    bh.consume(constObj);
+  }
+
+  @Benchmark
+  public void oneIntRing(Blackhole bh) {
+    bh.consume(ints0.next());
+  }
+
+  @Benchmark
+  public void twoIntRings(Blackhole bh) {
+    bh.consume(ints0.next());
+    bh.consume(ints1.next());
+  }
+
+  @Benchmark
+  public void objectRing(Blackhole bh) {
+    bh.consume(objects.next());
+  }
+
+  @Setup(Level.Trial)
+  public void beforeBenchmark() {
+    Random rand = Rings.random();
+    ints0 = Rings.ints(i -> rand.nextInt());
+    ints1 = Rings.ints(i -> rand.nextInt());
+    objects = Rings.objects(i -> String.valueOf(rand.nextInt()));
+  }
+
+}
@@ -1,5 +1,7 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -22,11 +24,13 @@ import static org.klojang.check.CommonChecks.instanceOf;
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
 public class InstanceOf_099_Percent_Pass {
 
-  public Object testVal;
-  public Class testClass;
+  public ObjectRing<Object> testVals;
+  public ObjectRing<Class<?>> testClasses;
 
   @Benchmark
   public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       if (!testClass.isInstance(testVal)) {
         throw new IllegalArgumentException("argument has wrong type");
@@ -39,6 +43,8 @@ public class InstanceOf_099_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       if (!testClass.isInstance(testVal)) {
         throw new IllegalArgumentException(
@@ -52,6 +58,8 @@ public class InstanceOf_099_Percent_Pass {
 
   @Benchmark
   public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       bh.consume(Check.that(testVal).is(instanceOf(), testClass).ok());
     } catch (IllegalArgumentException e) {
@@ -59,8 +67,21 @@ public class InstanceOf_099_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(instanceOf(), testClass).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   @Benchmark
   public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       bh.consume(Check.that(testVal)
           .is(instanceOf(), testClass, "argument has wrong type")
@@ -72,6 +93,8 @@ public class InstanceOf_099_Percent_Pass {
 
   @Benchmark
   public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       bh.consume(Check.that(testVal)
           .is(instanceOf(), testClass, "argument has wrong type", null)
@@ -83,6 +106,8 @@ public class InstanceOf_099_Percent_Pass {
 
   @Benchmark
   public void customMessage_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       bh.consume(Check.that(testVal)
           .is(instanceOf(), testClass, "${arg} must be instance of ${obj}")
@@ -92,8 +117,23 @@ public class InstanceOf_099_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(instanceOf(), testClass, "${tag}: ${arg} must be instance of ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   @Benchmark
   public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
     try {
       bh.consume(Check.that(testVal)
           .is(instanceOf(),
@@ -105,61 +145,48 @@ public class InstanceOf_099_Percent_Pass {
     }
   }
 
-  public int counter0;
-  public int counter1;
-
-  public Class[] types;
+  public Random rand;
 
   @Setup(Level.Trial)
   public void init() {
-    types = new Class[200];
-    for (int i = 0; i < 200; ++i) {
+    rand = Rings.random();
+    testClasses = Rings.objects(256, i -> {
       if (i % 5 == 0) {
-        types[i] = Serializable.class;
+        return Serializable.class;
       } else if (i % 4 == 0) {
-        types[i] = Iterable.class;
+        return Iterable.class;
       } else if (i % 3 == 0) {
-        types[i] = Collection.class;
+        return Collection.class;
+      }
+      return Set.class;
+    });
+    testVals = Rings.objects(i -> {
+      // Ridiculous code to confuse the compiler as much as possible
+      if (i % 100 == 0) {
+        if (i % 4 == 0) {
+          return "Hello, world!";
+        } else {
+          return 63.8F;
+        }
       } else {
-        types[i] = Set.class;
+        if (i % 5 == 0) {
+          return EnumSet.noneOf(DayOfWeek.class);
+        } else if (i % 4 == 0) {
+          return new TreeSet<>();
+        } else if (i % 3 == 0) {
+          return new HashSet<>();
+        } else if (i % 2 == 0) {
+          return new LinkedHashSet<>();
+        } else {
+          return new CopyOnWriteArraySet<>();
+        }
       }
-    }
+    });
   }
 
   @Setup(Level.Iteration)
   public void beforeIteration() {
-    Collections.shuffle(Arrays.asList(types));
-  }
-
-  @Setup(Level.Invocation)
-  public void setup() {
-    // Ridiculous code to confuse the compiler as much as possible
-    int i = counter0++;
-    if (i % 100 == 0) {
-      if (i % 4 == 0) {
-        testVal = "Hello, world!";
-      } else {
-        testVal = 63.8F;
-      }
-    } else {
-      if (i % 5 == 0) {
-        testVal = EnumSet.noneOf(DayOfWeek.class);
-      } else if (i % 4 == 0) {
-        testVal = new TreeSet<>();
-      } else if (i % 3 == 0) {
-        testVal = new HashSet<>();
-      } else if (i % 2 == 0) {
-        testVal = new LinkedHashSet<>();
-      } else {
-        testVal = new CopyOnWriteArraySet<>();
-      }
-    }
-
-    if (counter1++ == 199) {
-      counter1 = 0;
-    }
-    testClass = types[counter1];
-
+    testClasses.shuffle(rand);
   }
 
 }
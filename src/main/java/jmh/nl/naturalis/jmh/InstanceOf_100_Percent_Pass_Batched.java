@@ -0,0 +1,192 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.instanceOf;
+
+/*
+ * The InstanceOf_100_Percent_Pass benchmarks, but with BATCH checks per
+ * invocation, so that the cost of the invocation itself (and of fetching the next
+ * test value and target type from a ring) is spread out over BATCH operations.
+ * Each invocation checks the next BATCH values of a pre-generated array against
+ * the target types, which are shuffled before each iteration. Each variant returns
+ * the number of values that passed the check. The score is checks per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
+public class InstanceOf_100_Percent_Pass_Batched {
+
+  private static final int BATCH = 1024;
+
+  public Object[] testVals;
+  public Class<?>[] testClasses;
+  public int offset;
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int handCoded_NoMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object testVal = testVals[i];
+      Class<?> testClass = testClasses[i % testClasses.length];
+      if (!testClass.isInstance(testVal)) {
+        throw new IllegalArgumentException("argument has wrong type");
+      }
+      ++passed;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int handCoded_WithMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object testVal = testVals[i];
+      Class<?> testClass = testClasses[i % testClasses.length];
+      if (!testClass.isInstance(testVal)) {
+        throw new IllegalArgumentException(
+            String.format("%s must be instance of %s", testVal, testClass));
+      }
+      ++passed;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int prefabMessage() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Class<?> testClass = testClasses[i % testClasses.length];
+      Object ok = Check.that(testVals[i]).is(instanceOf(), testClass).ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int prefabMessage_Named() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Class<?> testClass = testClasses[i % testClasses.length];
+      Object ok = Check.that(testVals[i], "arg").is(instanceOf(), testClass).ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customMessage_NoMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Class<?> testClass = testClasses[i % testClasses.length];
+      Object ok = Check.that(testVals[i])
+          .is(instanceOf(), testClass, "argument has wrong type")
+          .ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customMessage_WithMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Class<?> testClass = testClasses[i % testClasses.length];
+      Object ok = Check.that(testVals[i])
+          .is(instanceOf(), testClass, "${arg} must be instance of ${obj}")
+          .ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customException() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Class<?> testClass = testClasses[i % testClasses.length];
+      Object ok = Check.that(testVals[i])
+          .is(instanceOf(),
+              testClass,
+              () -> new IllegalArgumentException("argument has wrong type"))
+          .ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  private int nextBatch() {
+    int from = offset;
+    offset = (offset + BATCH) % testVals.length;
+    return from;
+  }
+
+  public Random rand;
+
+  @Setup(Level.Trial)
+  public void init() {
+    rand = Rings.random();
+    testClasses = new Class<?>[256];
+    for (int i = 0; i < testClasses.length; ++i) {
+      if (i % 5 == 0) {
+        testClasses[i] = Serializable.class;
+      } else if (i % 4 == 0) {
+        testClasses[i] = Iterable.class;
+      } else if (i % 3 == 0) {
+        testClasses[i] = Collection.class;
+      } else {
+        testClasses[i] = Set.class;
+      }
+    }
+    testVals = new Object[Rings.DEFAULT_SIZE];
+    for (int i = 0; i < testVals.length; ++i) {
+      if (i % 100 == 0) {
+        testVals[i] = i % 4 == 0 ? new HashSet<>() : new TreeSet<>();
+      } else if (i % 5 == 0) {
+        testVals[i] = EnumSet.noneOf(DayOfWeek.class);
+      } else if (i % 4 == 0) {
+        testVals[i] = new TreeSet<>();
+      } else if (i % 3 == 0) {
+        testVals[i] = new HashSet<>();
+      } else if (i % 2 == 0) {
+        testVals[i] = new LinkedHashSet<>();
+      } else {
+        testVals[i] = new CopyOnWriteArraySet<>();
+      }
+    }
+    offset = 0;
+  }
+
+  @Setup(Level.Iteration)
+  public void beforeIteration() {
+    Collections.shuffle(Arrays.asList(testClasses), rand);
+  }
+
+}
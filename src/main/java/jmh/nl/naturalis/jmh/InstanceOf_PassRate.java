@@ -0,0 +1,195 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.instanceOf;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class InstanceOf_PassRate {
+
+  @Param({"0", "0.1", "1", "10", "50", "90", "99", "99.9", "100"})
+  public double passRate;
+
+  @Param({"PERIODIC", "UNIFORM_RANDOM", "BURSTY"})
+  public FailurePattern failurePattern;
+
+  public ObjectRing<Object> testVals;
+  public ObjectRing<Class<?>> testClasses;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      if (!testClass.isInstance(testVal)) {
+        throw new IllegalArgumentException("argument has wrong type");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      if (!testClass.isInstance(testVal)) {
+        throw new IllegalArgumentException(
+            String.format("%s must be instance of %s", testVal, testClass));
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal).is(instanceOf(), testClass).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(instanceOf(), testClass).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(instanceOf(), testClass, "argument has wrong type")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(instanceOf(), testClass, "argument has wrong type", null)
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(instanceOf(), testClass, "${arg} must be instance of ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(instanceOf(), testClass, "${tag}: ${arg} must be instance of ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(instanceOf(),
+              testClass,
+              () -> new IllegalArgumentException("argument has wrong type"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  public Random rand;
+
+  @Setup(Level.Trial)
+  public void init() {
+    rand = Rings.random();
+    testClasses = Rings.objects(256, i -> {
+      if (i % 5 == 0) {
+        return Serializable.class;
+      } else if (i % 4 == 0) {
+        return Iterable.class;
+      } else if (i % 3 == 0) {
+        return Collection.class;
+      }
+      return Set.class;
+    });
+    boolean[] failures = failurePattern.layout(Rings.DEFAULT_SIZE, passRate, rand);
+    testVals = Rings.objects(i -> {
+      if (failures[i]) {
+        // Not an instance of any of the test classes (not even Serializable)
+        if (i % 2 == 0) {
+          return new Object();
+        }
+        return Optional.of(i);
+      }
+      if (i % 5 == 0) {
+        return EnumSet.noneOf(DayOfWeek.class);
+      } else if (i % 4 == 0) {
+        return new TreeSet<>();
+      } else if (i % 3 == 0) {
+        return new HashSet<>();
+      } else if (i % 2 == 0) {
+        return new LinkedHashSet<>();
+      }
+      return new CopyOnWriteArraySet<>();
+    });
+  }
+
+  @Setup(Level.Iteration)
+  public void beforeIteration() {
+    testClasses.shuffle(rand);
+  }
+
+}
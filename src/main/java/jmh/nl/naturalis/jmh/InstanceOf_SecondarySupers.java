@@ -0,0 +1,145 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.instanceOf;
+
+/*
+ * All test values are instances of one and the same class, which is checked against
+ * a rotating set of interfaces (plus the class itself). On HotSpot, each of these
+ * checks may overwrite the single-element secondary-super cache of that class, and
+ * with multiple threads the cache line bounces between cores. The class sits at the
+ * given depth below Object (D01 at depth 1). HotSpot finds classes up to depth 7
+ * through the primary supers display, with a single load and compare. From depth 8
+ * on, the check against the class itself also goes through the secondary supers,
+ * which then also contain the classes beyond depth 7, so each cache miss scans a
+ * longer array. Run with ScalingCurve (or -t) to vary the thread count.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
+public class InstanceOf_SecondarySupers {
+
+  public interface I0 {}
+
+  public interface I1 {}
+
+  public interface I2 {}
+
+  public interface I3 {}
+
+  public interface I4 {}
+
+  public interface I5 {}
+
+  public interface I6 {}
+
+  public interface I7 {}
+
+  public static class D01 implements I0, I1, I2, I3, I4, I5, I6, I7 {}
+
+  public static class D02 extends D01 {}
+
+  public static class D03 extends D02 {}
+
+  public static class D04 extends D03 {}
+
+  public static class D05 extends D04 {}
+
+  public static class D06 extends D05 {}
+
+  public static class D07 extends D06 {}
+
+  public static class D08 extends D07 {}
+
+  public static class D09 extends D08 {}
+
+  public static class D10 extends D09 {}
+
+  public static class D11 extends D10 {}
+
+  public static class D12 extends D11 {}
+
+  private static final Class<?>[] INTERFACES = {
+      I0.class, I1.class, I2.class, I3.class, I4.class, I5.class, I6.class, I7.class
+  };
+
+  private static final Class<?>[] HIERARCHY = {
+      D01.class, D02.class, D03.class, D04.class, D05.class, D06.class,
+      D07.class, D08.class, D09.class, D10.class, D11.class, D12.class
+  };
+
+  @Param({"1", "2", "4", "8"})
+  public int targetTypes;
+
+  // 7 is the deepest level in the primary supers display, 8 the first one beyond
+  @Param({"1", "7", "8", "12"})
+  public int depth;
+
+  public ObjectRing<Object> testVals;
+  public ObjectRing<Class<?>> testClasses;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    if (!testClass.isInstance(testVal)) {
+      throw new IllegalArgumentException("argument has wrong type");
+    }
+    bh.consume(testVal);
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    bh.consume(Check.that(testVal).is(instanceOf(), testClass).ok());
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    bh.consume(Check.that(testVal)
+        .is(instanceOf(), testClass, "argument has wrong type")
+        .ok());
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    bh.consume(Check.that(testVal)
+        .is(instanceOf(),
+            testClass,
+            () -> new IllegalArgumentException("argument has wrong type"))
+        .ok());
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws ReflectiveOperationException {
+    Class<?> type = HIERARCHY[depth - 1];
+    Object[] instances = new Object[16];
+    for (int i = 0; i < instances.length; ++i) {
+      instances[i] = type.getDeclaredConstructor().newInstance();
+    }
+    testVals = Rings.objects(i -> instances[i % instances.length]);
+    // Round-robin over the target types to maximize the number of cache misses
+    testClasses = Rings.objects(i -> {
+      int j = i % (targetTypes + 1);
+      return j == targetTypes ? type : INTERFACES[j];
+    });
+  }
+
+}
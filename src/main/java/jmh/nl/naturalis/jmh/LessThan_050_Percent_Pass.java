@@ -1,5 +1,7 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -19,15 +21,13 @@ import static org.klojang.check.CommonChecks.lt;
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
 public class LessThan_050_Percent_Pass {
 
-  public Random rand = new Random();
-  int[] ints;
-  public int small;
-  public int big;
-  public int counter0;
-  public int counter1;
+  public IntRing smalls;
+  public IntRing bigs;
 
   //@Benchmark
   public void handCoded_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       if (small >= big) {
         throw new IllegalArgumentException("argument too big");
@@ -40,6 +40,8 @@ public class LessThan_050_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithStrMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       if (small >= big) {
         throw new IllegalArgumentException(
@@ -53,6 +55,8 @@ public class LessThan_050_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithIntMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       if (small >= big) {
         throw new IllegalArgumentException(
@@ -66,6 +70,8 @@ public class LessThan_050_Percent_Pass {
 
   //@Benchmark
   public void prefabMessage(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       bh.consume(Check.that(small).is(lt(), big).ok());
     } catch (IllegalArgumentException e) {
@@ -73,8 +79,21 @@ public class LessThan_050_Percent_Pass {
     }
   }
 
+  //@Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small, "arg").is(lt(), big).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   //@Benchmark
   public void customMessage_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       bh.consume(Check.that(small).is(lt(), big, "argument too big").ok());
     } catch (IllegalArgumentException e) {
@@ -84,6 +103,8 @@ public class LessThan_050_Percent_Pass {
 
   //@Benchmark
   public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       bh.consume(Check.that(small).is(lt(), big, "argument too big", null).ok());
     } catch (IllegalArgumentException e) {
@@ -93,6 +114,8 @@ public class LessThan_050_Percent_Pass {
 
   @Benchmark
   public void customMessage_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       bh.consume(Check.that(small).is(lt(), big, "${arg} must be < ${obj}").ok());
     } catch (IllegalArgumentException e) {
@@ -100,8 +123,23 @@ public class LessThan_050_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small, "arg")
+          .is(lt(), big, "${tag}: ${arg} must be < ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   //@Benchmark
   public void customException(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     try {
       bh.consume(Check.that(small)
           .is(lt(), big, () -> new IllegalArgumentException("argument too big"))
@@ -113,28 +151,11 @@ public class LessThan_050_Percent_Pass {
 
   @Setup(Level.Trial)
   public void beforeBenchmark() {
-    Random rand = new Random();
-    ints = new int[1000];
-    for (int i = 0; i < 1000; ++i) {
-      ints[i] = rand.nextInt(1000, 2000);
-    }
-  }
-
-  @Setup(Level.Invocation)
-  public void beforeInvocation() {
-
-    if (counter0++ % 2 == 0) {
-      small = rand.nextInt(100_000_000, 100_500_000);
-    } else {
-      small = rand.nextInt(13, 97);
-    }
-
-    if (counter1 == 999) {
-      counter1 = 0;
-    } else {
-      ++counter1;
-    }
-    big = ints[counter1];
+    Random rand = Rings.random();
+    smalls = Rings.ints(i -> i % 2 == 0
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
   }
 
 }
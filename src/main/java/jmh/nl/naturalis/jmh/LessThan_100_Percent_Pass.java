@@ -1,5 +1,8 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -18,17 +21,16 @@ import static org.klojang.check.CommonChecks.lt;
 //@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G"})
 @Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
 public class LessThan_100_Percent_Pass {
 
-  public Random rand = new Random();
-  int[] ints;
-  public int small;
-  public int big;
-  public int counter0;
-  public int counter1;
+  public IntRing smalls;
+  public IntRing bigs;
 
   @Benchmark
   public void handCoded_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     if (small >= big) {
       throw new IllegalArgumentException("argument too big");
     }
@@ -37,6 +39,8 @@ public class LessThan_100_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     if (small >= big) {
       throw new IllegalArgumentException(
           String.format("%d arg must be < %d", small, big));
@@ -46,26 +50,52 @@ public class LessThan_100_Percent_Pass {
 
   @Benchmark
   public void prefabMessage(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(Check.that(small).is(lt(), big).ok());
   }
 
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    bh.consume(Check.that(small, "arg").is(lt(), big).ok());
+  }
+
   @Benchmark
   public void customMessage_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(Check.that(small).is(lt(), big, "argument too big").ok());
   }
 
   @Benchmark
   public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(Check.that(small).is(lt(), big, "argument too big", null).ok());
   }
 
   @Benchmark
   public void customMessage_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(Check.that(small).is(lt(), big, "${arg} must be < ${obj}").ok());
   }
 
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    bh.consume(Check.that(small, "arg")
+        .is(lt(), big, "${tag}: ${arg} must be < ${obj}")
+        .ok());
+  }
+
   @Benchmark
   public void customException(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
     bh.consume(Check.that(small)
         .is(lt(), big, () -> new IllegalArgumentException("argument too big"))
         .ok());
@@ -73,28 +103,11 @@ public class LessThan_100_Percent_Pass {
 
   @Setup(Level.Trial)
   public void beforeBenchmark() {
-    Random rand = new Random();
-    ints = new int[1000];
-    for (int i = 0; i < 1000; ++i) {
-      ints[i] = rand.nextInt(1000, 2000);
-    }
-  }
-
-  @Setup(Level.Invocation)
-  public void beforeInvocation() {
-
-    if (counter0++ % 100 == 0) {
-      small = rand.nextInt(10, 21);
-    } else {
-      small = rand.nextInt(13, 97);
-    }
-
-    if (counter1 == 999) {
-      counter1 = 0;
-    } else {
-      ++counter1;
-    }
-    big = ints[counter1];
+    Random rand = Rings.random();
+    smalls = Rings.ints(i -> i % 100 == 0
+        ? rand.nextInt(10, 21)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
   }
 
 }
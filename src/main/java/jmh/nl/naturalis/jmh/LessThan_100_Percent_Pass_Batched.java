@@ -0,0 +1,154 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.lt;
+
+/*
+ * The LessThan_100_Percent_Pass benchmarks, but with BATCH checks per invocation,
+ * so that the cost of the invocation itself (and of fetching the next test values
+ * from a ring) is spread out over BATCH operations. Each invocation checks the next
+ * BATCH values of a pre-generated array. The checked values are summed and
+ * returned, which is cheaper than handing each of them to a Blackhole, but still
+ * keeps the JIT compiler from eliminating the checks. The score is checks per
+ * second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
+public class LessThan_100_Percent_Pass_Batched {
+
+  private static final int BATCH = 1024;
+
+  public int[] smalls;
+  public int[] bigs;
+  public int offset;
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int plainLessThanTest() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      sum += smalls[i] < bigs[i] ? smalls[i] : 0;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int handCoded_NoMsgArgs() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      if (smalls[i] >= bigs[i]) {
+        throw new IllegalArgumentException("argument too big");
+      }
+      sum += smalls[i];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int handCoded_WithMsgArgs() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      if (smalls[i] >= bigs[i]) {
+        throw new IllegalArgumentException(
+            String.format("%d arg must be < %d", smalls[i], bigs[i]));
+      }
+      sum += smalls[i];
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int prefabMessage() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      sum += Check.that(smalls[i]).is(lt(), bigs[i]).ok();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int prefabMessage_Named() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      sum += Check.that(smalls[i], "arg").is(lt(), bigs[i]).ok();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customMessage_NoMsgArgs() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      sum += Check.that(smalls[i]).is(lt(), bigs[i], "argument too big").ok();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customMessage_WithMsgArgs() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      sum += Check.that(smalls[i])
+          .is(lt(), bigs[i], "${arg} must be < ${obj}")
+          .ok();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customException() {
+    int from = nextBatch();
+    int sum = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      sum += Check.that(smalls[i])
+          .is(lt(), bigs[i], () -> new IllegalArgumentException("argument too big"))
+          .ok();
+    }
+    return sum;
+  }
+
+  private int nextBatch() {
+    int from = offset;
+    offset = (offset + BATCH) % smalls.length;
+    return from;
+  }
+
+  @Setup(Level.Trial)
+  public void beforeBenchmark() {
+    Random rand = Rings.random();
+    smalls = new int[Rings.DEFAULT_SIZE];
+    bigs = new int[Rings.DEFAULT_SIZE];
+    for (int i = 0; i < smalls.length; ++i) {
+      smalls[i] = i % 100 == 0 ? rand.nextInt(10, 21) : rand.nextInt(13, 97);
+      bigs[i] = rand.nextInt(1000, 2000);
+    }
+    offset = 0;
+  }
+
+}
@@ -0,0 +1,136 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.latency.Outcome;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.lt;
+
+/*
+ * Same variants as LessThan_099_Percent_Pass, but in SampleTime mode, so JMH
+ * reports percentiles rather than the mean. The warmup iterations run on the same
+ * input as LessThan_099_Percent_Pass (99% pass), so the JIT compiler sees the same
+ * profile. The measurement iterations then run on input that only passes or only
+ * fails the check (the outcome parameter), so the percentiles describe either the
+ * pass path or the fail path, not a mix of both. Run with LatencyReport to get
+ * the percentiles of all forks combined.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class LessThan_Latency {
+
+  @Param({"PASS", "FAIL"})
+  public Outcome outcome;
+
+  public IntRing mixedSmalls;
+  public IntRing measuredSmalls;
+  public IntRing smalls;
+  public IntRing bigs;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException("argument too big");
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException(
+            String.format("%d arg must be < %d", small, big));
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big, "argument too big").ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big, "${arg} must be < ${obj}").ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small)
+          .is(lt(), big, () -> new IllegalArgumentException("argument too big"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void beforeBenchmark() {
+    Random rand = Rings.random();
+    mixedSmalls = Rings.ints(i -> i % 100 == 0
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    measuredSmalls = Rings.ints(i -> outcome == Outcome.FAIL
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
+  }
+
+  @Setup(Level.Iteration)
+  public void beforeIteration(IterationParams params) {
+    smalls = params.getType() == IterationType.MEASUREMENT
+        ? measuredSmalls
+        : mixedSmalls;
+  }
+
+}
@@ -0,0 +1,152 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.lt;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class LessThan_PassRate {
+
+  @Param({"0", "0.1", "1", "10", "50", "90", "99", "99.9", "100"})
+  public double passRate;
+
+  @Param({"PERIODIC", "UNIFORM_RANDOM", "BURSTY"})
+  public FailurePattern failurePattern;
+
+  public IntRing smalls;
+  public IntRing bigs;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException("argument too big");
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException(
+            String.format("%d arg must be < %d", small, big));
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small, "arg").is(lt(), big).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big, "argument too big").ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big, "argument too big", null).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small).is(lt(), big, "${arg} must be < ${obj}").ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small, "arg")
+          .is(lt(), big, "${tag}: ${arg} must be < ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small)
+          .is(lt(), big, () -> new IllegalArgumentException("argument too big"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void beforeBenchmark() {
+    Random rand = Rings.random();
+    boolean[] failures = failurePattern.layout(Rings.DEFAULT_SIZE, passRate, rand);
+    smalls = Rings.ints(i -> failures[i]
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
+  }
+
+}
@@ -0,0 +1,181 @@
+package jmh.nl.naturalis.jmh;
+
+import com.google.common.base.Preconditions;
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.apache.commons.lang3.Validate;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.instanceOf;
+
+/*
+ * A type check through Klojang Check, Guava's Preconditions (which has no type
+ * check of its own, so checkArgument(Class.isInstance())), Apache Commons'
+ * Validate and a hand-coded if/throw. The target type varies per call, as in the
+ * InstanceOf suites.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Libraries_InstanceOf {
+
+  @Param({"100", "99", "50"})
+  public double passRate;
+
+  public ObjectRing<Object> testVals;
+  public ObjectRing<Class<?>> testClasses;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      if (!testClass.isInstance(testVal)) {
+        throw new IllegalArgumentException("argument has wrong type");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      if (!testClass.isInstance(testVal)) {
+        throw new IllegalArgumentException(
+            String.format("arg must be instance of %s (was %s)",
+                testClass.getName(),
+                testVal.getClass().getName()));
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(instanceOf(), testClass).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(instanceOf(),
+              testClass,
+              "${tag} must be instance of ${obj} (was ${type})")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      Preconditions.checkArgument(testClass.isInstance(testVal),
+          "argument has wrong type");
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      Preconditions.checkArgument(testClass.isInstance(testVal),
+          "arg must be instance of %s (was %s)",
+          testClass,
+          testVal.getClass());
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      Validate.isInstanceOf(testClass, testVal, "argument has wrong type");
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  // Without a message, Validate.isInstanceOf() generates one with the class names
+  @Benchmark
+  public void commons_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    Class<?> testClass = testClasses.next();
+    try {
+      Validate.isInstanceOf(testClass, testVal);
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  public Random rand;
+
+  @Setup(Level.Trial)
+  public void init() {
+    rand = Rings.random();
+    testClasses = Rings.objects(256, i -> {
+      if (i % 3 == 0) {
+        return Collection.class;
+      } else if (i % 2 == 0) {
+        return Iterable.class;
+      }
+      return Set.class;
+    });
+    boolean[] failures = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        rand);
+    testVals = Rings.objects(i -> {
+      if (failures[i]) {
+        return i % 2 == 0 ? new Object() : Optional.of(i);
+      }
+      if (i % 3 == 0) {
+        return new TreeSet<>();
+      } else if (i % 2 == 0) {
+        return new HashSet<>();
+      }
+      return new LinkedHashSet<>();
+    });
+  }
+
+  @Setup(Level.Iteration)
+  public void beforeIteration() {
+    testClasses.shuffle(rand);
+  }
+
+}
@@ -0,0 +1,153 @@
+package jmh.nl.naturalis.jmh;
+
+import com.google.common.base.Preconditions;
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.apache.commons.lang3.Validate;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.lt;
+
+/*
+ * A range check (small < big) through Klojang Check, Guava's Preconditions, Apache
+ * Commons' Validate and a hand-coded if/throw. Guava has non-varargs overloads for
+ * up to three message arguments; Commons boxes the message arguments into a
+ * varargs array, even if the check passes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Libraries_LessThan {
+
+  @Param({"100", "99", "50"})
+  public double passRate;
+
+  public IntRing smalls;
+  public IntRing bigs;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException("argument too big");
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException(
+            String.format("arg must be < %d (was %d)", big, small));
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_prefabMessage(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small, "arg").is(lt(), big).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      bh.consume(Check.that(small, "arg")
+          .is(lt(), big, "${tag} must be < ${obj} (was ${arg})")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      Preconditions.checkArgument(small < big, "argument too big");
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      Preconditions.checkArgument(small < big,
+          "arg must be < %s (was %s)",
+          big,
+          small);
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_NoMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      Validate.isTrue(small < big, "argument too big");
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_WithMsgArgs(Blackhole bh) {
+    int small = smalls.next();
+    int big = bigs.next();
+    try {
+      Validate.isTrue(small < big, "arg must be < %d (was %d)", big, small);
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    boolean[] failures = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        rand);
+    smalls = Rings.ints(i -> failures[i]
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
+  }
+
+}
@@ -0,0 +1,152 @@
+package jmh.nl.naturalis.jmh;
+
+import com.google.common.base.Preconditions;
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.apache.commons.lang3.Validate;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notEmpty;
+
+/*
+ * A collection check (not null and not empty) through Klojang Check, Guava's
+ * Preconditions, Apache Commons' Validate and a hand-coded if/throw. The failing
+ * values are empty lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Libraries_NotEmpty {
+
+  @Param({"100", "99", "50"})
+  public double passRate;
+
+  public ObjectRing<List<String>> testVals;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      if (testVal == null || testVal.isEmpty()) {
+        throw new IllegalArgumentException("arg must not be empty");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      if (testVal == null || testVal.isEmpty()) {
+        throw new IllegalArgumentException(
+            String.format("%s must not be empty (was %s)", "arg", testVal));
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_prefabMessage(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(notEmpty()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_WithMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(notEmpty(), "${tag} must not be empty (was ${arg})")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_NoMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      Preconditions.checkArgument(testVal != null && !testVal.isEmpty(),
+          "arg must not be empty");
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_WithMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      Preconditions.checkArgument(testVal != null && !testVal.isEmpty(),
+          "%s must not be empty (was %s)",
+          "arg",
+          testVal);
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_NoMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      bh.consume(Validate.notEmpty(testVal, "arg must not be empty"));
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_WithMsgArgs(Blackhole bh) {
+    List<String> testVal = testVals.next();
+    try {
+      bh.consume(Validate.notEmpty(testVal,
+          "%s must not be empty (was %s)",
+          "arg",
+          testVal));
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    boolean[] failures = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        rand);
+    testVals = Rings.objects(i -> {
+      List<String> list = new ArrayList<>();
+      if (!failures[i]) {
+        for (int j = 0, n = rand.nextInt(1, 10); j < n; ++j) {
+          list.add("s" + j);
+        }
+      }
+      return list;
+    });
+  }
+
+}
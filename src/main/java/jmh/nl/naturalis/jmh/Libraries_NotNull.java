@@ -0,0 +1,164 @@
+package jmh.nl.naturalis.jmh;
+
+import com.google.common.base.Preconditions;
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.Validate;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notNull;
+
+/*
+ * A null check through Klojang Check, Guava's Preconditions, Apache Commons'
+ * Validate, Objects.requireNonNull and a hand-coded if/throw. Guava, Commons and
+ * requireNonNull throw a NullPointerException rather than an
+ * IllegalArgumentException. See Libraries_LessThan, Libraries_InstanceOf and
+ * Libraries_NotEmpty for the other checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Libraries_NotNull {
+
+  @Param({"100", "99", "50"})
+  public double passRate;
+
+  public ObjectRing<Object> testVals;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException("arg must not be null");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException(
+            String.format("%s must not be %s", "arg", null));
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(notNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void klojang_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(notNull(), "${tag} must not be ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Preconditions.checkNotNull(testVal, "arg must not be null"));
+    } catch (NullPointerException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void guava_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Preconditions.checkNotNull(testVal,
+          "%s must not be %s",
+          "arg",
+          null));
+    } catch (NullPointerException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Validate.notNull(testVal, "arg must not be null"));
+    } catch (NullPointerException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void commons_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Validate.notNull(testVal, "%s must not be %s", "arg", null));
+    } catch (NullPointerException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void requireNonNull_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Objects.requireNonNull(testVal, "arg must not be null"));
+    } catch (NullPointerException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void requireNonNull_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Objects.requireNonNull(testVal,
+          () -> String.format("%s must not be %s", "arg", null)));
+    } catch (NullPointerException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    boolean[] failures = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        Rings.random());
+    testVals = Rings.objects(i -> {
+      if (failures[i]) {
+        return null;
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
+  }
+
+}
@@ -1,5 +1,8 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
@@ -20,16 +23,18 @@ import static org.klojang.check.CommonChecks.notNull;
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
 public class NotNull_050_Percent_Pass {
 
-  public Object testVal;
-  public int counter;
+  public ObjectRing<Object> testVals;
 
   @Benchmark
+  @AllocationBudget(0)
   public void plainNullTest(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(testVal == null);
   }
 
   @Benchmark
   public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       if (testVal == null) {
         throw new IllegalArgumentException("arg must not be null");
@@ -42,6 +47,7 @@ public class NotNull_050_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       if (testVal == null) {
         throw new IllegalArgumentException(
@@ -55,6 +61,7 @@ public class NotNull_050_Percent_Pass {
 
   @Benchmark
   public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal).is(notNull()).ok());
     } catch (IllegalArgumentException e) {
@@ -62,8 +69,19 @@ public class NotNull_050_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(notNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   @Benchmark
   public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), "arg must not be null")
@@ -75,6 +93,7 @@ public class NotNull_050_Percent_Pass {
 
   @Benchmark
   public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), "arg must not be null", null)
@@ -86,6 +105,7 @@ public class NotNull_050_Percent_Pass {
 
   @Benchmark
   public void customMessage_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), "${arg} must not be ${obj}")
@@ -95,8 +115,21 @@ public class NotNull_050_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(notNull(), "${tag}: ${arg} must not be ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   @Benchmark
   public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
@@ -106,13 +139,14 @@ public class NotNull_050_Percent_Pass {
     }
   }
 
-  @Setup(Level.Invocation)
+  @Setup(Level.Trial)
   public void setup() {
-    if (counter++ % 2 == 0) {
-      testVal = null;
-    } else {
-      testVal = RandomStringUtils.randomAlphabetic(10, 15);
-    }
+    testVals = Rings.objects(i -> {
+      if (i % 2 == 0) {
+        return null;
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
   }
 
 }
@@ -1,5 +1,7 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
@@ -20,11 +22,11 @@ import static org.klojang.check.CommonChecks.notNull;
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
 public class NotNull_099_Percent_Pass {
 
-  public Object testVal;
-  public int counter;
+  public ObjectRing<Object> testVals;
 
   @Benchmark
   public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       if (testVal == null) {
         throw new IllegalArgumentException("arg must not be null");
@@ -37,6 +39,7 @@ public class NotNull_099_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       if (testVal == null) {
         throw new IllegalArgumentException(
@@ -50,6 +53,7 @@ public class NotNull_099_Percent_Pass {
 
   @Benchmark
   public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal).is(notNull()).ok());
     } catch (IllegalArgumentException e) {
@@ -57,8 +61,19 @@ public class NotNull_099_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg").is(notNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   @Benchmark
   public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal).is(notNull(), "arg must not be null").ok());
     } catch (IllegalArgumentException e) {
@@ -68,6 +83,7 @@ public class NotNull_099_Percent_Pass {
 
   @Benchmark
   public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), "arg must not be null", null)
@@ -79,6 +95,7 @@ public class NotNull_099_Percent_Pass {
 
   @Benchmark
   public void customMessageWithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), "${arg} must not be ${obj}")
@@ -88,8 +105,21 @@ public class NotNull_099_Percent_Pass {
     }
   }
 
+  @Benchmark
+  public void customMessageWithMsgArgs_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal, "arg")
+          .is(notNull(), "${tag}: ${arg} must not be ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
   @Benchmark
   public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
     try {
       bh.consume(Check.that(testVal)
           .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
@@ -99,13 +129,14 @@ public class NotNull_099_Percent_Pass {
     }
   }
 
-  @Setup(Level.Invocation)
+  @Setup(Level.Trial)
   public void setup() {
-    if (counter++ % 100 == 0) {
-      testVal = null;
-    } else {
-      testVal = RandomStringUtils.randomAlphabetic(10, 15);
-    }
+    testVals = Rings.objects(i -> {
+      if (i % 100 == 0) {
+        return null;
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
   }
 
 }
@@ -1,5 +1,8 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.klojang.check.Check;
 import org.openjdk.jmh.annotations.*;
@@ -18,18 +21,20 @@ import static org.klojang.check.CommonChecks.notNull;
 //@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G"})
 @Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
 public class NotNull_100_Percent_Pass {
 
-  public Object testVal;
-  public int counter;
+  public ObjectRing<Object> testVals;
 
   @Benchmark
   public void plainNullTest(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(testVal == null);
   }
 
   @Benchmark
   public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     if (testVal == null) {
       throw new IllegalArgumentException("arg must not be null");
     }
@@ -38,6 +43,7 @@ public class NotNull_100_Percent_Pass {
 
   @Benchmark
   public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     if (testVal == null) {
       throw new IllegalArgumentException(
           String.format("%s arg must not be %s", "arg", null));
@@ -47,38 +53,58 @@ public class NotNull_100_Percent_Pass {
 
   @Benchmark
   public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal).is(notNull()).ok());
   }
 
+  @Benchmark
+  public void prefabMessage_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    bh.consume(Check.that(testVal, "arg").is(notNull()).ok());
+  }
+
   @Benchmark
   public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal).is(notNull(), "arg must not be null").ok());
   }
 
   @Benchmark
   public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal).is(notNull(), "arg must not be null", null).ok());
   }
 
   @Benchmark
   public void customMessage_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal).is(notNull(), "${arg} must not be ${obj}").ok());
   }
 
+  @Benchmark
+  public void customMessage_WithMsgArgs_Named(Blackhole bh) {
+    Object testVal = testVals.next();
+    bh.consume(Check.that(testVal, "arg")
+        .is(notNull(), "${tag}: ${arg} must not be ${obj}")
+        .ok());
+  }
+
   @Benchmark
   public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
     bh.consume(Check.that(testVal)
         .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
         .ok());
   }
 
-  @Setup(Level.Invocation)
+  @Setup(Level.Trial)
   public void setup() {
-    if (counter++ % 100 == 0) {
-      testVal = new Object();
-    } else {
-      testVal = RandomStringUtils.randomAlphabetic(10, 15);
-    }
+    testVals = Rings.objects(i -> {
+      if (i % 100 == 0) {
+        return new Object();
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
   }
 
 }
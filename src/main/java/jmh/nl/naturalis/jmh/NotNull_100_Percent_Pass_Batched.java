@@ -0,0 +1,158 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notNull;
+
+/*
+ * The NotNull_100_Percent_Pass benchmarks, but with BATCH checks per invocation, so
+ * that the cost of the invocation itself (and of fetching the next test value from
+ * a ring) is spread out over BATCH operations. Each invocation checks the next
+ * BATCH values of a pre-generated array. Each variant returns the number of values
+ * that passed the check, which keeps the JIT compiler from eliminating the checks
+ * without the cost of a Blackhole call per value. The score is checks per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+@AllocationBudget(0)
+public class NotNull_100_Percent_Pass_Batched {
+
+  private static final int BATCH = 1024;
+
+  public Object[] testVals;
+  public int offset;
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int plainNullTest() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      passed += testVals[i] == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int handCoded_NoMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object testVal = testVals[i];
+      if (testVal == null) {
+        throw new IllegalArgumentException("arg must not be null");
+      }
+      ++passed;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int handCoded_WithMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object testVal = testVals[i];
+      if (testVal == null) {
+        throw new IllegalArgumentException(
+            String.format("%s arg must not be %s", "arg", null));
+      }
+      ++passed;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int prefabMessage() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      passed += Check.that(testVals[i]).is(notNull()).ok() == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int prefabMessage_Named() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      passed += Check.that(testVals[i], "arg").is(notNull()).ok() == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customMessage_NoMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object ok = Check.that(testVals[i])
+          .is(notNull(), "arg must not be null")
+          .ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customMessage_WithMsgArgs() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object ok = Check.that(testVals[i])
+          .is(notNull(), "${arg} must not be ${obj}")
+          .ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int customException() {
+    int from = nextBatch();
+    int passed = 0;
+    for (int i = from; i < from + BATCH; ++i) {
+      Object ok = Check.that(testVals[i])
+          .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
+          .ok();
+      passed += ok == null ? 0 : 1;
+    }
+    return passed;
+  }
+
+  private int nextBatch() {
+    int from = offset;
+    offset = (offset + BATCH) % testVals.length;
+    return from;
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    testVals = new Object[Rings.DEFAULT_SIZE];
+    for (int i = 0; i < testVals.length; ++i) {
+      testVals[i] = i % 100 == 0
+          ? new Object()
+          : RandomStringUtils.randomAlphabetic(10, 15);
+    }
+    offset = 0;
+  }
+
+}
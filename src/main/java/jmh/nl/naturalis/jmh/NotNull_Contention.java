@@ -0,0 +1,132 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notNull;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class NotNull_Contention {
+
+  @Param({"100", "99", "50"})
+  public double passRate;
+
+  public ObjectRing<Object> testVals;
+
+  @Benchmark
+  public void plainNullTest(Blackhole bh) {
+    Object testVal = testVals.next();
+    bh.consume(testVal == null);
+  }
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException("arg must not be null");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException(
+            String.format("%s arg must not be %s", "arg", null));
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal).is(notNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(notNull(), "arg must not be null")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs_VarArgsNull(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(notNull(), "arg must not be null", null)
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(notNull(), "${arg} must not be ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    boolean[] failures = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        Rings.random());
+    testVals = Rings.objects(i -> {
+      if (failures[i]) {
+        return null;
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
+  }
+
+}
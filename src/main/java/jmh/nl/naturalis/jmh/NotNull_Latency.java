@@ -0,0 +1,129 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.latency.Outcome;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.notNull;
+
+/*
+ * Same variants as NotNull_099_Percent_Pass, but in SampleTime mode. Warms up on
+ * 99% pass input and measures on pass-only or fail-only input (see
+ * LessThan_Latency).
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 5, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class NotNull_Latency {
+
+  @Param({"PASS", "FAIL"})
+  public Outcome outcome;
+
+  public ObjectRing<Object> mixed;
+  public ObjectRing<Object> measured;
+  public ObjectRing<Object> testVals;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException("arg must not be null");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void handCoded_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException(
+            String.format("%s arg must not be %s", "arg", null));
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal).is(notNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal).is(notNull(), "arg must not be null").ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(notNull(), "${arg} must not be ${obj}")
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(Check.that(testVal)
+          .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
+          .ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    mixed = Rings.objects(i -> {
+      if (i % 100 == 0) {
+        return null;
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
+    measured = Rings.objects(i -> {
+      if (outcome == Outcome.FAIL) {
+        return null;
+      }
+      return RandomStringUtils.randomAlphabetic(10, 15);
+    });
+  }
+
+  @Setup(Level.Iteration)
+  public void beforeIteration(IterationParams params) {
+    testVals = params.getType() == IterationType.MEASUREMENT ? measured : mixed;
+  }
+
+}
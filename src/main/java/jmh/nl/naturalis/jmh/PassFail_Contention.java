@@ -0,0 +1,140 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.CommonChecks.notNull;
+
+/*
+ * Asymmetric runs: in each group, three threads only ever see valid values while a
+ * fourth thread only ever sees invalid values, and thus keeps generating exception
+ * messages and exceptions. If anything on the fail path is shared between threads,
+ * the throughput of the pass-path threads will suffer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class PassFail_Contention {
+
+  public ObjectRing<Object> strings;
+  public IntRing smalls;
+  public IntRing tooBigs;
+  public IntRing bigs;
+
+  @Benchmark
+  @Group("notNull_handCoded")
+  @GroupThreads(3)
+  public void notNull_handCoded_pass(Blackhole bh) {
+    handCodedNotNull(strings.next(), bh);
+  }
+
+  @Benchmark
+  @Group("notNull_handCoded")
+  @GroupThreads(1)
+  public void notNull_handCoded_fail(Blackhole bh) {
+    handCodedNotNull(null, bh);
+  }
+
+  @Benchmark
+  @Group("notNull_prefabMessage")
+  @GroupThreads(3)
+  public void notNull_prefabMessage_pass(Blackhole bh) {
+    prefabNotNull(strings.next(), bh);
+  }
+
+  @Benchmark
+  @Group("notNull_prefabMessage")
+  @GroupThreads(1)
+  public void notNull_prefabMessage_fail(Blackhole bh) {
+    prefabNotNull(null, bh);
+  }
+
+  @Benchmark
+  @Group("lessThan_handCoded_WithMsgArgs")
+  @GroupThreads(3)
+  public void lessThan_handCoded_WithMsgArgs_pass(Blackhole bh) {
+    handCodedLessThan(smalls.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  @Group("lessThan_handCoded_WithMsgArgs")
+  @GroupThreads(1)
+  public void lessThan_handCoded_WithMsgArgs_fail(Blackhole bh) {
+    handCodedLessThan(tooBigs.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  @Group("lessThan_customMessage_WithMsgArgs")
+  @GroupThreads(3)
+  public void lessThan_customMessage_WithMsgArgs_pass(Blackhole bh) {
+    customMessageLessThan(smalls.next(), bigs.next(), bh);
+  }
+
+  @Benchmark
+  @Group("lessThan_customMessage_WithMsgArgs")
+  @GroupThreads(1)
+  public void lessThan_customMessage_WithMsgArgs_fail(Blackhole bh) {
+    customMessageLessThan(tooBigs.next(), bigs.next(), bh);
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    strings = Rings.objects(i -> RandomStringUtils.randomAlphabetic(10, 15));
+    smalls = Rings.ints(i -> rand.nextInt(13, 97));
+    tooBigs = Rings.ints(i -> rand.nextInt(100_000_000, 100_500_000));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
+  }
+
+  private static void handCodedNotNull(Object testVal, Blackhole bh) {
+    try {
+      if (testVal == null) {
+        throw new IllegalArgumentException("arg must not be null");
+      }
+      bh.consume(testVal);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void prefabNotNull(Object testVal, Blackhole bh) {
+    try {
+      bh.consume(Check.that(testVal).is(notNull()).ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void handCodedLessThan(int small, int big, Blackhole bh) {
+    try {
+      if (small >= big) {
+        throw new IllegalArgumentException(
+            String.format("%d arg must be < %d", small, big));
+      }
+      bh.consume(small);
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static void customMessageLessThan(int small, int big, Blackhole bh) {
+    try {
+      bh.consume(Check.that(small).is(lt(), big, "${arg} must be < ${obj}").ok());
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+}
@@ -0,0 +1,246 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.containsKey;
+import static org.klojang.check.CommonChecks.empty;
+import static org.klojang.check.CommonChecks.eq;
+import static org.klojang.check.CommonChecks.even;
+import static org.klojang.check.CommonChecks.gt;
+import static org.klojang.check.CommonChecks.gte;
+import static org.klojang.check.CommonChecks.instanceOf;
+import static org.klojang.check.CommonChecks.lt;
+import static org.klojang.check.CommonChecks.lte;
+import static org.klojang.check.CommonChecks.multipleOf;
+import static org.klojang.check.CommonChecks.ne;
+import static org.klojang.check.CommonChecks.notEmpty;
+import static org.klojang.check.CommonChecks.notNull;
+import static org.klojang.check.CommonChecks.odd;
+import static org.klojang.check.CommonChecks.positive;
+import static org.klojang.check.CommonChecks.sameAs;
+
+/*
+ * Sends a mix of distinct predicates through the same Klojang Check methods. Once
+ * IntCheck.is(IntRelation, int) or ObjectCheck.is(...) has seen more than two
+ * predicate classes, the call to the predicate inside it becomes megamorphic, and is
+ * no longer inlined, even though each call site in this class passes one and the
+ * same predicate. The first four predicates are all IntRelations, so they go through
+ * one and the same library method (monomorphic, bimorphic, megamorphic); the others
+ * spread over the remaining is() methods. All values pass the check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Predicates_Megamorphic {
+
+  private static final int LT = 0;
+  private static final int GT = 1;
+  private static final int EQ = 2;
+  private static final int NE = 3;
+  private static final int LTE = 4;
+  private static final int GTE = 5;
+  private static final int NOT_NULL = 6;
+  private static final int EMPTY = 7;
+  private static final int CONTAINS_KEY = 8;
+  private static final int INSTANCE_OF = 9;
+  private static final int EVEN = 10;
+  private static final int ODD = 11;
+  private static final int POSITIVE = 12;
+  private static final int MULTIPLE_OF = 13;
+  private static final int NOT_EMPTY = 14;
+  private static final int SAME_AS = 15;
+
+  public static final class Case {
+    public int kind;
+    public int i;
+    public int j;
+    public Object obj;
+    public Object other;
+    public String str;
+    public List<String> list;
+    public Map<String, String> map;
+    public String key;
+    public Class<?> type;
+  }
+
+  @Param({"1", "2", "3", "4", "8", "16"})
+  public int predicates;
+
+  public ObjectRing<Case> cases;
+
+  @Benchmark
+  public void handCoded(Blackhole bh) {
+    Case c = cases.next();
+    switch (c.kind) {
+      case LT -> {
+        if (c.i >= c.j) {
+          throw new IllegalArgumentException("argument too big");
+        }
+      }
+      case GT -> {
+        if (c.i <= c.j) {
+          throw new IllegalArgumentException("argument too small");
+        }
+      }
+      case EQ -> {
+        if (c.i != c.j) {
+          throw new IllegalArgumentException("arguments not equal");
+        }
+      }
+      case NE -> {
+        if (c.i == c.j) {
+          throw new IllegalArgumentException("arguments equal");
+        }
+      }
+      case LTE -> {
+        if (c.i > c.j) {
+          throw new IllegalArgumentException("argument too big");
+        }
+      }
+      case GTE -> {
+        if (c.i < c.j) {
+          throw new IllegalArgumentException("argument too small");
+        }
+      }
+      case NOT_NULL -> {
+        if (c.obj == null) {
+          throw new IllegalArgumentException("arg must not be null");
+        }
+      }
+      case EMPTY -> {
+        if (!c.str.isEmpty()) {
+          throw new IllegalArgumentException("arg must be empty");
+        }
+      }
+      case CONTAINS_KEY -> {
+        if (!c.map.containsKey(c.key)) {
+          throw new IllegalArgumentException("no such key");
+        }
+      }
+      case INSTANCE_OF -> {
+        if (!c.type.isInstance(c.obj)) {
+          throw new IllegalArgumentException("wrong type");
+        }
+      }
+      case EVEN -> {
+        if (c.i % 2 != 0) {
+          throw new IllegalArgumentException("arg must be even");
+        }
+      }
+      case ODD -> {
+        if (c.i % 2 == 0) {
+          throw new IllegalArgumentException("arg must be odd");
+        }
+      }
+      case POSITIVE -> {
+        if (c.i <= 0) {
+          throw new IllegalArgumentException("arg must be positive");
+        }
+      }
+      case MULTIPLE_OF -> {
+        if (c.i % c.j != 0) {
+          throw new IllegalArgumentException("not a multiple");
+        }
+      }
+      case NOT_EMPTY -> {
+        if (c.list.isEmpty()) {
+          throw new IllegalArgumentException("arg must not be empty");
+        }
+      }
+      case SAME_AS -> {
+        if (c.obj != c.other) {
+          throw new IllegalArgumentException("not the same object");
+        }
+      }
+    }
+    bh.consume(c);
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    Case c = cases.next();
+    switch (c.kind) {
+      case LT -> bh.consume(Check.that(c.i).is(lt(), c.j).ok());
+      case GT -> bh.consume(Check.that(c.i).is(gt(), c.j).ok());
+      case EQ -> bh.consume(Check.that(c.i).is(eq(), c.j).ok());
+      case NE -> bh.consume(Check.that(c.i).is(ne(), c.j).ok());
+      case LTE -> bh.consume(Check.that(c.i).is(lte(), c.j).ok());
+      case GTE -> bh.consume(Check.that(c.i).is(gte(), c.j).ok());
+      case NOT_NULL -> bh.consume(Check.that(c.obj).is(notNull()).ok());
+      case EMPTY -> bh.consume(Check.that(c.str).is(empty()).ok());
+      case CONTAINS_KEY ->
+          bh.consume(Check.that(c.map).is(containsKey(), c.key).ok());
+      case INSTANCE_OF ->
+          bh.consume(Check.that(c.obj).is(instanceOf(), c.type).ok());
+      case EVEN -> bh.consume(Check.that(c.i).is(even()).ok());
+      case ODD -> bh.consume(Check.that(c.i).is(odd()).ok());
+      case POSITIVE -> bh.consume(Check.that(c.i).is(positive()).ok());
+      case MULTIPLE_OF -> bh.consume(Check.that(c.i).is(multipleOf(), c.j).ok());
+      case NOT_EMPTY -> bh.consume(Check.that(c.list).is(notEmpty()).ok());
+      case SAME_AS -> bh.consume(Check.that(c.obj).is(sameAs(), c.other).ok());
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    Map<String, String> map = Map.of("foo", "1", "bar", "2", "baz", "3");
+    List<String> list = List.of("foo", "bar");
+    cases = Rings.objects(x -> {
+      Case c = new Case();
+      c.kind = rand.nextInt(predicates);
+      int small = rand.nextInt(13, 97);
+      int big = rand.nextInt(1000, 2000);
+      switch (c.kind) {
+        case LT, LTE, NE -> {
+          c.i = small;
+          c.j = big;
+        }
+        case GT, GTE -> {
+          c.i = big;
+          c.j = small;
+        }
+        case EQ -> {
+          c.i = small;
+          c.j = small;
+        }
+        case EVEN -> c.i = small * 2;
+        case ODD -> c.i = small * 2 + 1;
+        case POSITIVE -> c.i = big;
+        case MULTIPLE_OF -> {
+          c.i = small * 7;
+          c.j = 7;
+        }
+        case NOT_NULL -> c.obj = String.valueOf(small);
+        case EMPTY -> c.str = "";
+        case NOT_EMPTY -> c.list = list;
+        case CONTAINS_KEY -> {
+          c.map = map;
+          c.key = List.of("foo", "bar", "baz").get(rand.nextInt(3));
+        }
+        case INSTANCE_OF -> {
+          c.obj = String.valueOf(small);
+          c.type = CharSequence.class;
+        }
+        default -> {
+          c.obj = String.valueOf(small);
+          c.other = c.obj;
+        }
+      }
+      return c;
+    });
+  }
+
+}
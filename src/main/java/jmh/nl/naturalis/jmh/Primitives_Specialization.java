@@ -0,0 +1,257 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.DoubleRing;
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.LongRing;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.runner.AllocationBudget;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.EQ;
+import static org.klojang.check.CommonChecks.GT;
+import static org.klojang.check.CommonChecks.GTE;
+import static org.klojang.check.CommonChecks.LT;
+import static org.klojang.check.CommonChecks.eq;
+import static org.klojang.check.CommonChecks.gt;
+import static org.klojang.check.CommonChecks.gte;
+import static org.klojang.check.CommonChecks.lt;
+
+/*
+ * The same comparisons for int, long, double, Integer and Long subjects. Only int
+ * has a primitive specialization (IntCheck, IntRelation). A long or double is boxed
+ * on its way into Check.that(), and so is the value it is compared with. All values
+ * lie outside the range of the Integer and Long caches, so unless the boxes are
+ * scalar-replaced, they show up in gc.alloc.rate.norm. Run with AllocationGate (or
+ * -prof gc). The Integer and Long subjects come pre-boxed, as they would from a
+ * deserialized DTO. All values pass the check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class Primitives_Specialization {
+
+  public enum Comparison {
+    LT, GT, EQ, IN_RANGE
+  }
+
+  private static final int INT_LOW = 1_000;
+  private static final int INT_HIGH = 1_000_000;
+  private static final long LONG_LOW = 1_000_000_000_000L;
+  private static final long LONG_HIGH = 4_000_000_000_000L;
+  private static final double DOUBLE_LOW = 0.0;
+  private static final double DOUBLE_HIGH = 10_000.0;
+
+  @Param({"LT", "GT", "EQ", "IN_RANGE"})
+  public Comparison comparison;
+
+  public IntRing ints;
+  public IntRing intOperands;
+  public LongRing longs;
+  public LongRing longOperands;
+  public DoubleRing doubles;
+  public DoubleRing doubleOperands;
+  public ObjectRing<Integer> integers;
+  public ObjectRing<Integer> integerOperands;
+  public ObjectRing<Long> boxedLongs;
+  public ObjectRing<Long> boxedLongOperands;
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void handCoded_int(Blackhole bh) {
+    int subject = ints.next();
+    int operand = intOperands.next();
+    boolean ok = switch (comparison) {
+      case LT -> subject < operand;
+      case GT -> subject > operand;
+      case EQ -> subject == operand;
+      case IN_RANGE -> subject >= INT_LOW && subject < INT_HIGH;
+    };
+    if (!ok) {
+      throw new IllegalArgumentException("illegal value");
+    }
+    bh.consume(subject);
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void prefabMessage_int(Blackhole bh) {
+    int subject = ints.next();
+    int operand = intOperands.next();
+    switch (comparison) {
+      case LT -> bh.consume(Check.that(subject).is(lt(), operand).ok());
+      case GT -> bh.consume(Check.that(subject).is(gt(), operand).ok());
+      case EQ -> bh.consume(Check.that(subject).is(eq(), operand).ok());
+      case IN_RANGE -> bh.consume(Check.that(subject)
+          .is(gte(), INT_LOW)
+          .is(lt(), INT_HIGH)
+          .ok());
+    }
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void handCoded_long(Blackhole bh) {
+    long subject = longs.next();
+    long operand = longOperands.next();
+    boolean ok = switch (comparison) {
+      case LT -> subject < operand;
+      case GT -> subject > operand;
+      case EQ -> subject == operand;
+      case IN_RANGE -> subject >= LONG_LOW && subject < LONG_HIGH;
+    };
+    if (!ok) {
+      throw new IllegalArgumentException("illegal value");
+    }
+    bh.consume(subject);
+  }
+
+  @Benchmark
+  public void prefabMessage_long(Blackhole bh) {
+    long subject = longs.next();
+    long operand = longOperands.next();
+    switch (comparison) {
+      case LT -> bh.consume(Check.that(subject).is(LT(), operand).ok());
+      case GT -> bh.consume(Check.that(subject).is(GT(), operand).ok());
+      case EQ -> bh.consume(Check.that(subject).is(EQ(), operand).ok());
+      case IN_RANGE -> bh.consume(Check.that(subject)
+          .is(GTE(), LONG_LOW)
+          .is(LT(), LONG_HIGH)
+          .ok());
+    }
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void handCoded_double(Blackhole bh) {
+    double subject = doubles.next();
+    double operand = doubleOperands.next();
+    boolean ok = switch (comparison) {
+      case LT -> subject < operand;
+      case GT -> subject > operand;
+      case EQ -> subject == operand;
+      case IN_RANGE -> subject >= DOUBLE_LOW && subject < DOUBLE_HIGH;
+    };
+    if (!ok) {
+      throw new IllegalArgumentException("illegal value");
+    }
+    bh.consume(subject);
+  }
+
+  @Benchmark
+  public void prefabMessage_double(Blackhole bh) {
+    double subject = doubles.next();
+    double operand = doubleOperands.next();
+    switch (comparison) {
+      case LT -> bh.consume(Check.that(subject).is(LT(), operand).ok());
+      case GT -> bh.consume(Check.that(subject).is(GT(), operand).ok());
+      case EQ -> bh.consume(Check.that(subject).is(EQ(), operand).ok());
+      case IN_RANGE -> bh.consume(Check.that(subject)
+          .is(GTE(), DOUBLE_LOW)
+          .is(LT(), DOUBLE_HIGH)
+          .ok());
+    }
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void handCoded_Integer(Blackhole bh) {
+    Integer subject = integers.next();
+    Integer operand = integerOperands.next();
+    boolean ok = switch (comparison) {
+      case LT -> subject < operand;
+      case GT -> subject > operand;
+      case EQ -> subject.equals(operand);
+      case IN_RANGE -> subject >= INT_LOW && subject < INT_HIGH;
+    };
+    if (!ok) {
+      throw new IllegalArgumentException("illegal value");
+    }
+    bh.consume(subject);
+  }
+
+  @Benchmark
+  public void prefabMessage_Integer(Blackhole bh) {
+    Integer subject = integers.next();
+    Integer operand = integerOperands.next();
+    switch (comparison) {
+      case LT -> bh.consume(Check.that(subject).is(LT(), operand).ok());
+      case GT -> bh.consume(Check.that(subject).is(GT(), operand).ok());
+      case EQ -> bh.consume(Check.that(subject).is(EQ(), operand).ok());
+      case IN_RANGE -> bh.consume(Check.that(subject)
+          .is(GTE(), INT_LOW)
+          .is(LT(), INT_HIGH)
+          .ok());
+    }
+  }
+
+  @Benchmark
+  @AllocationBudget(0)
+  public void handCoded_Long(Blackhole bh) {
+    Long subject = boxedLongs.next();
+    Long operand = boxedLongOperands.next();
+    boolean ok = switch (comparison) {
+      case LT -> subject < operand;
+      case GT -> subject > operand;
+      case EQ -> subject.equals(operand);
+      case IN_RANGE -> subject >= LONG_LOW && subject < LONG_HIGH;
+    };
+    if (!ok) {
+      throw new IllegalArgumentException("illegal value");
+    }
+    bh.consume(subject);
+  }
+
+  @Benchmark
+  public void prefabMessage_Long(Blackhole bh) {
+    Long subject = boxedLongs.next();
+    Long operand = boxedLongOperands.next();
+    switch (comparison) {
+      case LT -> bh.consume(Check.that(subject).is(LT(), operand).ok());
+      case GT -> bh.consume(Check.that(subject).is(GT(), operand).ok());
+      case EQ -> bh.consume(Check.that(subject).is(EQ(), operand).ok());
+      case IN_RANGE -> bh.consume(Check.that(subject)
+          .is(GTE(), LONG_LOW)
+          .is(LT(), LONG_HIGH)
+          .ok());
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random rand = Rings.random();
+    // GT operands lie below the subjects, LT (and IN_RANGE) operands above them
+    ints = Rings.ints(i -> rand.nextInt(INT_LOW, INT_HIGH / 2));
+    intOperands = Rings.ints(i -> switch (comparison) {
+      case EQ -> ints.get(i);
+      case GT -> rand.nextInt(INT_LOW / 2, INT_LOW);
+      default -> rand.nextInt(INT_HIGH / 2, INT_HIGH);
+    });
+    longs = Rings.longs(i -> rand.nextLong(LONG_LOW, LONG_HIGH / 2));
+    longOperands = Rings.longs(i -> switch (comparison) {
+      case EQ -> longs.get(i);
+      case GT -> rand.nextLong(LONG_LOW / 2, LONG_LOW);
+      default -> rand.nextLong(LONG_HIGH / 2, LONG_HIGH);
+    });
+    doubles = Rings.doubles(i -> rand.nextDouble(DOUBLE_LOW, DOUBLE_HIGH / 2));
+    doubleOperands = Rings.doubles(i -> switch (comparison) {
+      case EQ -> doubles.get(i);
+      case GT -> rand.nextDouble(-DOUBLE_HIGH / 2, DOUBLE_LOW);
+      default -> rand.nextDouble(DOUBLE_HIGH / 2, DOUBLE_HIGH);
+    });
+    // Box into distinct objects, so that EQ cannot get away with an identity check
+    integers = Rings.objects(i -> Integer.valueOf(ints.get(i)));
+    integerOperands = Rings.objects(i -> Integer.valueOf(intOperands.get(i)));
+    boxedLongs = Rings.objects(i -> Long.valueOf(longs.get(i)));
+    boxedLongOperands = Rings.objects(i -> Long.valueOf(longOperands.get(i)));
+  }
+
+}
@@ -0,0 +1,139 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.klojang.check.CommonChecks.notNull;
+
+/*
+ * Unlike the other benchmarks, this one runs with stack trace generation enabled.
+ * All values fail the check, and the check is executed at the specified call stack
+ * depth (relative to the benchmark method), so the cost of fillInStackTrace() can be
+ * measured as a function of the depth of the stack. The "Stackless" variants throw
+ * an exception that does not fill in its stack trace, which is what the
+ * writableStackTrace=false constructor of RuntimeException would do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class StackTrace_FailPath {
+
+  private static final class StacklessException extends IllegalArgumentException {
+
+    StacklessException(String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+  }
+
+  private static final Function<Object, Object> HAND_CODED = testVal -> {
+    if (testVal == null) {
+      throw new IllegalArgumentException("arg must not be null");
+    }
+    return testVal;
+  };
+
+  private static final Function<Object, Object> HAND_CODED_STACKLESS = testVal -> {
+    if (testVal == null) {
+      throw new StacklessException("arg must not be null");
+    }
+    return testVal;
+  };
+
+  private static final Function<Object, Object> PREFAB_MESSAGE =
+      testVal -> Check.that(testVal).is(notNull()).ok();
+
+  private static final Function<Object, Object> CUSTOM_MESSAGE_NO_MSG_ARGS =
+      testVal -> Check.that(testVal).is(notNull(), "arg must not be null").ok();
+
+  private static final Function<Object, Object> CUSTOM_MESSAGE_WITH_MSG_ARGS =
+      testVal -> Check.that(testVal).is(notNull(), "${arg} must not be ${obj}").ok();
+
+  private static final Function<Object, Object> CUSTOM_EXCEPTION =
+      testVal -> Check.that(testVal)
+          .is(notNull(), () -> new IllegalArgumentException("arg must not be null"))
+          .ok();
+
+  private static final Function<Object, Object> CUSTOM_EXCEPTION_STACKLESS =
+      testVal -> Check.that(testVal)
+          .is(notNull(), () -> new StacklessException("arg must not be null"))
+          .ok();
+
+  @Param({"1", "4", "16", "64", "256"})
+  public int depth;
+
+  public ObjectRing<Object> testVals;
+
+  @Benchmark
+  public void handCoded_NoMsgArgs(Blackhole bh) {
+    run(HAND_CODED, bh);
+  }
+
+  @Benchmark
+  public void handCoded_Stackless(Blackhole bh) {
+    run(HAND_CODED_STACKLESS, bh);
+  }
+
+  @Benchmark
+  public void prefabMessage(Blackhole bh) {
+    run(PREFAB_MESSAGE, bh);
+  }
+
+  @Benchmark
+  public void customMessage_NoMsgArgs(Blackhole bh) {
+    run(CUSTOM_MESSAGE_NO_MSG_ARGS, bh);
+  }
+
+  @Benchmark
+  public void customMessage_WithMsgArgs(Blackhole bh) {
+    run(CUSTOM_MESSAGE_WITH_MSG_ARGS, bh);
+  }
+
+  @Benchmark
+  public void customException(Blackhole bh) {
+    run(CUSTOM_EXCEPTION, bh);
+  }
+
+  @Benchmark
+  public void customException_Stackless(Blackhole bh) {
+    run(CUSTOM_EXCEPTION_STACKLESS, bh);
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    testVals = Rings.objects(i -> null);
+  }
+
+  private void run(Function<Object, Object> check, Blackhole bh) {
+    Object testVal = testVals.next();
+    try {
+      bh.consume(descend(depth, testVal, check));
+    } catch (IllegalArgumentException e) {
+      bh.consume(e);
+    }
+  }
+
+  private static Object descend(int depth,
+      Object testVal,
+      Function<Object, Object> check) {
+    if (depth <= 1) {
+      return check.apply(testVal);
+    }
+    return descend(depth - 1, testVal, check);
+  }
+
+}
@@ -1,5 +1,8 @@
 package jmh.nl.naturalis.jmh;
 
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.ObjectRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
 import org.klojang.check.x.msg.MsgUtil;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -16,21 +19,15 @@ import java.util.concurrent.TimeUnit;
 @Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
 public class StringFormatting {
 
-  public Random rand = new Random();
-  int[] ints;
-  public int counter0;
-  public int counter1;
-
-  public String argName;
-  public int intSubject;
-  public int intObject;
-
-  public String stringSubject;
-
-  public String stringObject;
+  public IntRing intSubjects;
+  public IntRing intObjects;
+  public ObjectRing<String> argNames;
 
   @Benchmark
   public void klojangFormatWithBuiltInArgsOnly(Blackhole bh) {
+    String argName = argNames.next();
+    int intSubject = intSubjects.next();
+    int intObject = intObjects.next();
     bh.consume(MsgUtil.getCustomMessage(
         "foo12345 ${tag} foo12345 ${arg} foo12345 ${obj} foo12345",
         new Object[0], null, argName, intSubject, int.class, intObject));
@@ -38,6 +35,9 @@ public class StringFormatting {
 
   @Benchmark
   public void klojangFormatWithUserArgsOnly(Blackhole bh) {
+    String argName = argNames.next();
+    int intSubject = intSubjects.next();
+    int intObject = intObjects.next();
     bh.consume(MsgUtil.getCustomMessage(
         "foo12345 ${0} foo12345 ${1} foo12345 ${2} foo12345",
         new Object[] {argName, intSubject, intObject},
@@ -50,6 +50,9 @@ public class StringFormatting {
 
   @Benchmark
   public void stringFormatWithPercentS(Blackhole bh) {
+    String argName = argNames.next();
+    int intSubject = intSubjects.next();
+    int intObject = intObjects.next();
     bh.consume(String.format("foo12345 %s foo12345 %s foo12345 %s foo12345",
         argName,
         intSubject,
@@ -58,6 +61,9 @@ public class StringFormatting {
 
   @Benchmark
   public void stringFormatWithPercentD(Blackhole bh) {
+    String argName = argNames.next();
+    int intSubject = intSubjects.next();
+    int intObject = intObjects.next();
     bh.consume(String.format("foo12345 %s foo12345 %d foo12345 %d foo12345",
         argName,
         intSubject,
@@ -66,37 +72,14 @@ public class StringFormatting {
 
   @Setup(Level.Trial)
   public void beforeBenchmark() {
-    Random rand = new Random();
-    ints = new int[1000];
-    for (int i = 0; i < 1000; ++i) {
-      ints[i] = rand.nextInt(1000, 2000);
-    }
-  }
-
-  @Setup(Level.Invocation)
-  public void beforeInvocation() {
-
-    if (counter0++ % 2 == 0) {
-      intSubject = rand.nextInt(100_000_000, 100_500_000);
-    } else {
-      intSubject = rand.nextInt(13, 97);
-    }
-
-    if (counter1 == 999) {
-      counter1 = 0;
-    } else {
-      ++counter1;
-    }
-    intObject = ints[counter1];
-
-    if (counter1 != 0 && counter0 % counter1 == 1) {
-      argName = "arg-" + intSubject;
-    } else {
-      argName = "arg-" + intObject;
-    }
-
-    stringSubject = "s-" + intSubject;
-    stringObject = "b-" + intObject;
+    Random rand = Rings.random();
+    intSubjects = Rings.ints(i -> i % 2 == 0
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    intObjects = Rings.ints(i -> rand.nextInt(1000, 2000));
+    argNames = Rings.objects(i -> i % 3 == 1
+        ? "arg-" + intSubjects.get(i)
+        : "arg-" + intObjects.get(i));
   }
 
 }
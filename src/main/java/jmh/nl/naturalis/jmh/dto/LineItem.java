@@ -0,0 +1,3 @@
+package jmh.nl.naturalis.jmh.dto;
+
+public record LineItem(String sku, int quantity, double unitPrice) {}
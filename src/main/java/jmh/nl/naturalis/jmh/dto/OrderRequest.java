@@ -0,0 +1,30 @@
+package jmh.nl.naturalis.jmh.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A request object as it might come out of a JSON deserializer: 20 fields of mixed
+ * types, some of them optional (null allowed), one of them a nested list.
+ */
+public record OrderRequest(
+    String orderId,
+    String customerId,
+    String email,
+    String firstName,
+    String lastName,
+    String phone,
+    String street,
+    String city,
+    String postalCode,
+    String countryCode,
+    String currency,
+    String status,
+    int age,
+    int quantity,
+    double amount,
+    Integer priority,
+    String couponCode,
+    List<LineItem> items,
+    List<String> tags,
+    Map<String, String> attributes) {}
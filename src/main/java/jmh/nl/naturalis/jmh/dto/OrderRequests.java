@@ -0,0 +1,151 @@
+package jmh.nl.naturalis.jmh.dto;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * The validation rules for {@link OrderRequest} objects, and a generator of valid
+ * and invalid requests. An invalid request violates exactly one rule, chosen at
+ * random. The rules:
+ *
+ * <ul>
+ *   <li>orderId, email, postalCode: not null, matching a regular expression
+ *   <li>customerId: not null, exactly {@link #CUSTOMER_ID_LENGTH} characters
+ *   <li>firstName, lastName, street, city: not null, not empty, at most
+ *       {@link #MAX_NAME_LENGTH} characters
+ *   <li>phone, couponCode: optional, but if present matching a regular expression
+ *   <li>countryCode, currency, status: one of a fixed set of values
+ *   <li>age, quantity, amount, priority (optional): within a numeric range
+ *   <li>items: 1 to {@link #MAX_ITEMS} line items, each with a valid SKU, a
+ *       positive quantity and a non-negative unit price
+ *   <li>tags: not null, at most {@link #MAX_TAGS} elements, none of them null
+ *   <li>attributes: not null, at most {@link #MAX_ATTRIBUTES} entries
+ * </ul>
+ */
+public final class OrderRequests {
+
+  public static final Pattern ORDER_ID = Pattern.compile("ORD-\\d{8}");
+  public static final Pattern EMAIL =
+      Pattern.compile("[a-z0-9._]+@[a-z0-9.-]+\\.[a-z]{2,}");
+  public static final Pattern PHONE = Pattern.compile("\\+?\\d{8,15}");
+  public static final Pattern POSTAL_CODE = Pattern.compile("\\d{4} ?[A-Z]{2}");
+  public static final Pattern COUPON_CODE = Pattern.compile("[A-Z0-9]{6,10}");
+  public static final Pattern SKU = Pattern.compile("[A-Z]{3}-\\d{5}");
+
+  // The iteration order of Set.of() differs from JVM to JVM, so the generator picks
+  // from these arrays rather than from the sets
+  private static final String[] COUNTRY_CODES =
+      {"NL", "BE", "DE", "FR", "GB", "US", "ES", "IT", "PL", "SE"};
+  private static final String[] CURRENCY_CODES = {"EUR", "USD", "GBP", "SEK"};
+  private static final String[] STATUS_CODES =
+      {"NEW", "CONFIRMED", "SHIPPED", "CANCELLED"};
+
+  public static final Set<String> COUNTRIES = Set.of(COUNTRY_CODES);
+  public static final Set<String> CURRENCIES = Set.of(CURRENCY_CODES);
+  public static final Set<String> STATUSES = Set.of(STATUS_CODES);
+
+  public static final int CUSTOMER_ID_LENGTH = 10;
+  public static final int MAX_NAME_LENGTH = 50;
+  public static final int MIN_AGE = 18;
+  public static final int MAX_AGE = 120;
+  public static final int MAX_QUANTITY = 1000;
+  public static final double MAX_AMOUNT = 1_000_000.0;
+  public static final int MIN_PRIORITY = 1;
+  public static final int MAX_PRIORITY = 5;
+  public static final int MAX_ITEMS = 20;
+  public static final int MAX_TAGS = 10;
+  public static final int MAX_ATTRIBUTES = 20;
+
+  private static final int FIELD_COUNT = 20;
+
+  private static final String[] FIRST_NAMES = {"Anna", "Bram", "Chloé", "Daan"};
+  private static final String[] LAST_NAMES = {"de Vries", "Jansen", "Bakker"};
+  private static final String[] CITIES = {"Leiden", "Amsterdam", "Utrecht"};
+
+  private OrderRequests() {}
+
+  /**
+   * Returns a new {@code OrderRequest}, which is either valid or violates exactly
+   * one of the rules.
+   */
+  public static OrderRequest create(Random rand, boolean valid) {
+    String orderId = String.format("ORD-%08d", rand.nextInt(100_000_000));
+    String customerId = String.format("C%09d", rand.nextInt(1_000_000_000));
+    String firstName = pick(FIRST_NAMES, rand);
+    String lastName = pick(LAST_NAMES, rand);
+    String email = firstName.toLowerCase().replace('é', 'e') + "@example.org";
+    String phone = rand.nextBoolean()
+        ? null
+        : "+31" + (600_000_000 + rand.nextInt(1000));
+    String street = "Darwinweg " + (1 + rand.nextInt(200));
+    String city = pick(CITIES, rand);
+    String postalCode = (1000 + rand.nextInt(9000)) + " AB";
+    String countryCode = pick(COUNTRY_CODES, rand);
+    String currency = pick(CURRENCY_CODES, rand);
+    String status = pick(STATUS_CODES, rand);
+    int age = rand.nextInt(MIN_AGE, MAX_AGE + 1);
+    int quantity = rand.nextInt(1, MAX_QUANTITY + 1);
+    double amount = rand.nextDouble(0, MAX_AMOUNT);
+    Integer priority = rand.nextBoolean()
+        ? null
+        : rand.nextInt(MIN_PRIORITY, MAX_PRIORITY + 1);
+    String couponCode = rand.nextInt(4) == 0 ? "SPRING24" : null;
+    List<LineItem> items = new ArrayList<>();
+    for (int i = 0, n = rand.nextInt(1, 6); i < n; ++i) {
+      items.add(new LineItem(String.format("ABC-%05d", rand.nextInt(100_000)),
+          rand.nextInt(1, 10),
+          rand.nextDouble(0, 500)));
+    }
+    List<String> tags = new ArrayList<>(List.of("web", "promo"));
+    Map<String, String> attributes = new HashMap<>(Map.of("channel", "web"));
+    if (!valid) {
+      switch (rand.nextInt(FIELD_COUNT)) {
+        case 0 -> orderId = "ORD-1234";
+        case 1 -> customerId = null;
+        case 2 -> email = "not an email address";
+        case 3 -> firstName = "";
+        case 4 -> lastName = "x".repeat(MAX_NAME_LENGTH + 1);
+        case 5 -> phone = "call me";
+        case 6 -> street = null;
+        case 7 -> city = "";
+        case 8 -> postalCode = "ABCD 12";
+        case 9 -> countryCode = "XX";
+        case 10 -> currency = "BTC";
+        case 11 -> status = "LOST";
+        case 12 -> age = MIN_AGE - 1;
+        case 13 -> quantity = 0;
+        case 14 -> amount = -1;
+        case 15 -> priority = MAX_PRIORITY + 1;
+        case 16 -> couponCode = "x";
+        case 17 -> items.add(new LineItem("abc", 1, 1.0));
+        case 18 -> tags.add(null);
+        default -> attributes = null;
+      }
+    }
+    return new OrderRequest(orderId,
+        customerId,
+        email,
+        firstName,
+        lastName,
+        phone,
+        street,
+        city,
+        postalCode,
+        countryCode,
+        currency,
+        status,
+        age,
+        quantity,
+        amount,
+        priority,
+        couponCode,
+        items,
+        tags,
+        attributes);
+  }
+
+  private static String pick(String[] values, Random rand) {
+    return values[rand.nextInt(values.length)];
+  }
+
+}
@@ -0,0 +1,34 @@
+package jmh.nl.naturalis.jmh.feed;
+
+/**
+ * The {@code double} counterpart of {@link IntRing}.
+ */
+public final class DoubleRing {
+
+  private final double[] values;
+  private final int mask;
+
+  private int cursor;
+
+  DoubleRing(double[] values) {
+    this.values = values;
+    this.mask = values.length - 1;
+  }
+
+  public double next() {
+    return values[cursor++ & mask];
+  }
+
+  public double get(int index) {
+    return values[index & mask];
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public void reset() {
+    cursor = 0;
+  }
+
+}
@@ -0,0 +1,98 @@
+package jmh.nl.naturalis.jmh.feed;
+
+import java.util.Random;
+
+/**
+ * Determines how the failing test values are distributed over an input ring. All
+ * patterns produce (nearly) the same number of failures for a given pass rate. They
+ * only differ in how predictable the failures are for the branch predictor and the
+ * JIT compiler.
+ */
+public enum FailurePattern {
+
+  /**
+   * The failures are spread out evenly over the ring: for a 99% pass rate, every 100th
+   * value fails.
+   */
+  PERIODIC {
+    @Override
+    void distribute(boolean[] failures, int count, Random rand) {
+      long size = failures.length;
+      for (int i = 0; i < failures.length; ++i) {
+        failures[i] = (i + 1L) * count / size > (long) i * count / size;
+      }
+    }
+  },
+
+  /**
+   * The failures are scattered randomly over the ring.
+   */
+  UNIFORM_RANDOM {
+    @Override
+    void distribute(boolean[] failures, int count, Random rand) {
+      for (int i = 0; i < count; ++i) {
+        failures[i] = true;
+      }
+      for (int i = failures.length - 1; i > 0; --i) {
+        int j = rand.nextInt(i + 1);
+        boolean tmp = failures[i];
+        failures[i] = failures[j];
+        failures[j] = tmp;
+      }
+    }
+  },
+
+  /**
+   * The failures come in bursts of (at most) {@link #BURST_LENGTH} consecutive values,
+   * as happens when a misbehaving client sends a batch of bad requests. The bursts
+   * are spread out evenly over the ring, but start at a random offset within their
+   * segment of the ring.
+   */
+  BURSTY {
+    @Override
+    void distribute(boolean[] failures, int count, Random rand) {
+      long size = failures.length;
+      int bursts = (count + BURST_LENGTH - 1) / BURST_LENGTH;
+      for (int j = 0; j < bursts; ++j) {
+        int from = (int) (j * size / bursts);
+        int to = (int) ((j + 1) * size / bursts);
+        int len = (int) (((long) j + 1) * count / bursts - (long) j * count / bursts);
+        len = Math.min(len, to - from);
+        int start = from + rand.nextInt(to - from - len + 1);
+        for (int i = start; i < start + len; ++i) {
+          failures[i] = true;
+        }
+      }
+    }
+  };
+
+  /**
+   * The maximum number of consecutive failures in the {@link #BURSTY} pattern.
+   */
+  public static final int BURST_LENGTH = 32;
+
+  /**
+   * Returns an array of the specified size, specifying for each slot in an input ring
+   * whether it should contain a failing test value.
+   *
+   * @param size the size of the input ring
+   * @param passRate the percentage of test values that should pass the check (0 -
+   *     100)
+   * @param rand the random number generator to use
+   * @return an array specifying which slots contain a failing test value
+   */
+  public boolean[] layout(int size, double passRate, Random rand) {
+    if (passRate < 0 || passRate > 100) {
+      throw new IllegalArgumentException("pass rate must be between 0 and 100");
+    }
+    boolean[] failures = new boolean[size];
+    int count = (int) Math.round(size * (100 - passRate) / 100);
+    if (count != 0) {
+      distribute(failures, count, rand);
+    }
+    return failures;
+  }
+
+  abstract void distribute(boolean[] failures, int count, Random rand);
+
+}
@@ -0,0 +1,37 @@
+package jmh.nl.naturalis.jmh.feed;
+
+/**
+ * A fixed-size ring of pre-generated {@code int} values. The values are generated
+ * once, before the benchmark starts, and handed out in a round-robin fashion. Reading
+ * the next value costs an array load plus an increment-and-mask, which is measured by
+ * the {@code InputFeedOverhead} benchmark.
+ */
+public final class IntRing {
+
+  private final int[] values;
+  private final int mask;
+
+  private int cursor;
+
+  IntRing(int[] values) {
+    this.values = values;
+    this.mask = values.length - 1;
+  }
+
+  public int next() {
+    return values[cursor++ & mask];
+  }
+
+  public int get(int index) {
+    return values[index & mask];
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public void reset() {
+    cursor = 0;
+  }
+
+}
@@ -0,0 +1,34 @@
+package jmh.nl.naturalis.jmh.feed;
+
+/**
+ * The {@code long} counterpart of {@link IntRing}.
+ */
+public final class LongRing {
+
+  private final long[] values;
+  private final int mask;
+
+  private int cursor;
+
+  LongRing(long[] values) {
+    this.values = values;
+    this.mask = values.length - 1;
+  }
+
+  public long next() {
+    return values[cursor++ & mask];
+  }
+
+  public long get(int index) {
+    return values[index & mask];
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public void reset() {
+    cursor = 0;
+  }
+
+}
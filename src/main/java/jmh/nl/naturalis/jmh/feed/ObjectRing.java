@@ -0,0 +1,54 @@
+package jmh.nl.naturalis.jmh.feed;
+
+import java.util.Random;
+
+/**
+ * A fixed-size ring of pre-generated objects. The object counterpart of
+ * {@link IntRing}.
+ *
+ * @param <T> the type of the objects in the ring
+ */
+public final class ObjectRing<T> {
+
+  private final Object[] values;
+  private final int mask;
+
+  private int cursor;
+
+  ObjectRing(Object[] values) {
+    this.values = values;
+    this.mask = values.length - 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T next() {
+    return (T) values[cursor++ & mask];
+  }
+
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    return (T) values[index & mask];
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public void reset() {
+    cursor = 0;
+  }
+
+  /**
+   * Shuffles the contents of the ring. Meant to be called from a
+   * {@code @Setup(Level.Iteration)} method, never from within a benchmark.
+   */
+  public void shuffle(Random rand) {
+    for (int i = values.length - 1; i > 0; --i) {
+      int j = rand.nextInt(i + 1);
+      Object tmp = values[i];
+      values[i] = values[j];
+      values[j] = tmp;
+    }
+  }
+
+}
@@ -0,0 +1,95 @@
+package jmh.nl.naturalis.jmh.feed;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Factory methods for input rings. Benchmarks create their rings in a
+ * {@code @Setup(Level.Trial)} method and read from them inside the benchmark method
+ * itself, so that no {@code @Setup(Level.Invocation)} is needed. The generator
+ * functions receive the index of the slot they are filling, which makes it easy to
+ * translate the old {@code counter++ % 100 == 0} logic.
+ */
+public final class Rings {
+
+  /**
+   * The default number of slots in a ring. Large enough to express a 0.1% failure
+   * rate, small enough for an {@code int} ring to stay in L1.
+   */
+  public static final int DEFAULT_SIZE = 8192;
+
+  private static final long SEED = 0x6b6c6f6a616e67L;
+
+  private Rings() {}
+
+  /**
+   * Returns a {@code Random} with a fixed seed, so that all forks of a benchmark see
+   * the same input.
+   */
+  public static Random random() {
+    return new Random(SEED);
+  }
+
+  public static IntRing ints(IntUnaryOperator generator) {
+    return ints(DEFAULT_SIZE, generator);
+  }
+
+  public static IntRing ints(int size, IntUnaryOperator generator) {
+    checkSize(size);
+    int[] values = new int[size];
+    for (int i = 0; i < size; ++i) {
+      values[i] = generator.applyAsInt(i);
+    }
+    return new IntRing(values);
+  }
+
+  public static LongRing longs(IntToLongFunction generator) {
+    return longs(DEFAULT_SIZE, generator);
+  }
+
+  public static LongRing longs(int size, IntToLongFunction generator) {
+    checkSize(size);
+    long[] values = new long[size];
+    for (int i = 0; i < size; ++i) {
+      values[i] = generator.applyAsLong(i);
+    }
+    return new LongRing(values);
+  }
+
+  public static DoubleRing doubles(IntToDoubleFunction generator) {
+    return doubles(DEFAULT_SIZE, generator);
+  }
+
+  public static DoubleRing doubles(int size, IntToDoubleFunction generator) {
+    checkSize(size);
+    double[] values = new double[size];
+    for (int i = 0; i < size; ++i) {
+      values[i] = generator.applyAsDouble(i);
+    }
+    return new DoubleRing(values);
+  }
+
+  public static <T> ObjectRing<T> objects(IntFunction<? extends T> generator) {
+    return objects(DEFAULT_SIZE, generator);
+  }
+
+  public static <T> ObjectRing<T> objects(int size,
+      IntFunction<? extends T> generator) {
+    checkSize(size);
+    Object[] values = new Object[size];
+    for (int i = 0; i < size; ++i) {
+      values[i] = generator.apply(i);
+    }
+    return new ObjectRing<>(values);
+  }
+
+  static void checkSize(int size) {
+    if (size <= 0 || Integer.bitCount(size) != 1) {
+      throw new IllegalArgumentException("ring size must be a power of two");
+    }
+  }
+
+}
@@ -0,0 +1,105 @@
+package jmh.nl.naturalis.jmh.latency;
+
+import java.util.Arrays;
+
+/**
+ * A simple log-linear histogram of latencies in nanoseconds. Values below 64 ns are
+ * recorded exactly. Above that, each power of two is divided into 32 buckets, so the
+ * relative error of a reported percentile is about 3%. The maximum is recorded
+ * exactly. Recording a value does not allocate.
+ */
+public final class LatencyHistogram {
+
+  private static final int LINEAR = 64;
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int FIRST_EXPONENT = 6; // log2(LINEAR)
+
+  private static final int BUCKETS = LINEAR + (63 - FIRST_EXPONENT) * SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKETS];
+
+  private long count;
+  private long max;
+
+  public void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    }
+    ++counts[index(nanos)];
+    ++count;
+    if (nanos > max) {
+      max = nanos;
+    }
+  }
+
+  public long count() {
+    return count;
+  }
+
+  public long max() {
+    return max;
+  }
+
+  /**
+   * Returns the value at the specified percentile (0 - 100), or 0 if no values have
+   * been recorded.
+   */
+  public long percentile(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < counts.length; ++i) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(valueOf(i), max);
+      }
+    }
+    return max;
+  }
+
+  public void reset() {
+    Arrays.fill(counts, 0);
+    count = 0;
+    max = 0;
+  }
+
+  /**
+   * Returns a one-line summary: count, p50, p90, p99, p99.9, p99.99 and max.
+   */
+  public String summary() {
+    return String.format(
+        "n=%d  p50=%d  p90=%d  p99=%d  p99.9=%d  p99.99=%d  max=%d (ns)",
+        count,
+        percentile(50),
+        percentile(90),
+        percentile(99),
+        percentile(99.9),
+        percentile(99.99),
+        max);
+  }
+
+  static int index(long nanos) {
+    if (nanos < LINEAR) {
+      return (int) nanos;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+    int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return LINEAR + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + sub;
+  }
+
+  // Returns the midpoint of the bucket
+  static long valueOf(int index) {
+    if (index < LINEAR) {
+      return index;
+    }
+    int exponent = (index - LINEAR) / SUB_BUCKETS + FIRST_EXPONENT;
+    int sub = (index - LINEAR) % SUB_BUCKETS;
+    long width = 1L << (exponent - SUB_BUCKET_BITS);
+    long lower = (1L << exponent) + sub * width;
+    return lower + width / 2;
+  }
+
+}
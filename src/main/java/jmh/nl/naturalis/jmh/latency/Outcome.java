@@ -0,0 +1,10 @@
+package jmh.nl.naturalis.jmh.latency;
+
+/**
+ * The outcome of the checks in the measurement iterations of a latency benchmark.
+ * Since every check in a measurement iteration has the same outcome, JMH's
+ * SampleTime histogram describes either the pass path or the fail path.
+ */
+public enum Outcome {
+  PASS, FAIL
+}
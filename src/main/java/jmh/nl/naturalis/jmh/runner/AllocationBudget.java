@@ -0,0 +1,22 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the maximum number of bytes a benchmark method may allocate per
+ * operation, as measured by JMH's GC profiler ({@code gc.alloc.rate.norm}). The
+ * budget is enforced by {@link AllocationGate}. When placed on a class, the budget
+ * applies to all benchmark methods in that class that do not declare a budget of
+ * their own.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AllocationBudget {
+
+  /**
+   * The maximum number of bytes allocated per operation.
+   */
+  int value();
+
+}
@@ -0,0 +1,120 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Runs the selected benchmarks with JMH's GC profiler and checks the number of bytes
+ * allocated per operation against the {@link AllocationBudget} of each benchmark.
+ * Exits with status 1 if any benchmark exceeds its budget. All arguments are passed
+ * on to JMH as-is. For example:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.AllocationGate \
+ *     _100_Percent_Pass
+ * </pre>
+ */
+public final class AllocationGate {
+
+  /*
+   * gc.alloc.rate.norm is hardly ever exactly zero, even for benchmarks that do not
+   * allocate anything, because JMH's own infrastructure allocates a little.
+   */
+  private static final double TOLERANCE = 0.5;
+
+  private AllocationGate() {}
+
+  public static void main(String[] args) throws Exception {
+    Options opts = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build();
+    Collection<RunResult> results = new Runner(opts).run();
+    if (check(results, System.out) != 0) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Prints the allocation rate and budget of each benchmark and returns the number
+   * of benchmarks that exceeded their budget.
+   */
+  static int check(Collection<RunResult> results, PrintStream out) {
+    int width = results.stream()
+        .map(r -> Labels.label(r.getParams()))
+        .mapToInt(String::length)
+        .max()
+        .orElse(9);
+    String format = "%-" + width + "s  %12s  %8s  %s%n";
+    out.println();
+    out.printf(format, "Benchmark", "B/op", "Budget", "Status");
+    int violations = 0;
+    for (RunResult result : results) {
+      Double bytes = allocated(result);
+      Integer budget = budgetOf(result.getParams().getBenchmark());
+      String status;
+      if (bytes == null) {
+        status = "NO DATA";
+      } else if (budget == null) {
+        status = "no budget";
+      } else if (bytes > budget + TOLERANCE) {
+        status = "OVER BUDGET";
+        ++violations;
+      } else {
+        status = "ok";
+      }
+      out.printf(format,
+          Labels.label(result.getParams()),
+          bytes == null ? "-" : String.format("%.3f", bytes),
+          budget == null ? "-" : budget,
+          status);
+    }
+    return violations;
+  }
+
+  /**
+   * Returns gc.alloc.rate.norm, or null if the GC profiler produced no such result.
+   */
+  static Double allocated(RunResult result) {
+    for (Map.Entry<String, Result> e : result.getSecondaryResults().entrySet()) {
+      // Older JMH versions prefix the secondary result labels with a middle dot
+      if (e.getKey().endsWith("gc.alloc.rate.norm")) {
+        return e.getValue().getScore();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the allocation budget of the specified benchmark method, or null if
+   * neither the method nor its class declares one.
+   */
+  static Integer budgetOf(String benchmark) {
+    int i = benchmark.lastIndexOf('.');
+    Class<?> clazz;
+    try {
+      clazz = Class.forName(benchmark.substring(0, i));
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+    String name = benchmark.substring(i + 1);
+    for (Method m : clazz.getMethods()) {
+      if (m.getName().equals(name) && m.isAnnotationPresent(AllocationBudget.class)) {
+        return m.getAnnotation(AllocationBudget.class).value();
+      }
+    }
+    AllocationBudget budget = clazz.getAnnotation(AllocationBudget.class);
+    return budget == null ? null : budget.value();
+  }
+
+}
@@ -0,0 +1,173 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.profile.ClassloaderProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Runs the {@code ColdStart} benchmarks three times: without class data sharing
+ * ({@code -Xshare:off}), with the JDK's default CDS archive, and with an AppCDS
+ * archive that also contains the classes of Klojang Check and of the benchmarks.
+ * Prints the first-call latency and the number of classes loaded during the call
+ * for each configuration. All arguments are passed on to JMH as-is. Without any
+ * benchmark selection, all {@code ColdStart} benchmarks are run.
+ *
+ * <p>The AppCDS archive is created on the first run by a separate JVM that calls
+ * each {@code ColdStart} benchmark once and dumps the loaded classes on exit
+ * ({@code -XX:ArchiveClassesAtExit}). CDS only accepts JAR files on the class path,
+ * so run this class from the benchmark jar. System properties:
+ *
+ * <ul>
+ *   <li>{@code cds.archive}: the archive file (default target/cds/benchmarks.jsa)
+ *   <li>{@code cds.rebuild}: if "true", recreate the archive even if it exists.
+ *       Do this after rebuilding the benchmark jar.
+ * </ul>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.ColdStartCds
+ * </pre>
+ */
+public final class ColdStartCds {
+
+  private static final String BENCHMARK_CLASS = "jmh.nl.naturalis.jmh.ColdStart";
+
+  private enum Config {
+    NO_CDS("no CDS", "-Xshare:off"),
+    JDK_CDS("JDK CDS"),
+    APP_CDS("AppCDS", "-XX:SharedArchiveFile=%s");
+
+    private final String label;
+    private final String[] jvmArgs;
+
+    Config(String label, String... jvmArgs) {
+      this.label = label;
+      this.jvmArgs = jvmArgs;
+    }
+
+    String[] jvmArgs(Path archive) {
+      return Arrays.stream(jvmArgs)
+          .map(arg -> String.format(arg, archive))
+          .toArray(String[]::new);
+    }
+  }
+
+  private ColdStartCds() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdline = new CommandLineOptions(args);
+    Path archive = Path.of(System.getProperty("cds.archive",
+        "target/cds/benchmarks.jsa")).toAbsolutePath();
+    if (Boolean.getBoolean("cds.rebuild") || !Files.exists(archive)) {
+      createArchive(archive);
+    }
+    Map<String, Map<Config, double[]>> table = new TreeMap<>();
+    String unit = "";
+    for (Config config : Config.values()) {
+      ChainedOptionsBuilder builder = new OptionsBuilder()
+          .parent(cmdline)
+          .addProfiler(ClassloaderProfiler.class);
+      String[] jvmArgs = JvmArgs.append(cmdline, config.jvmArgs(archive));
+      if (jvmArgs.length != 0) {
+        builder.jvmArgsAppend(jvmArgs);
+      }
+      if (cmdline.getIncludes().isEmpty()) {
+        builder.include(BENCHMARK_CLASS.replace(".", "\\.") + "\\.");
+      }
+      for (RunResult result : new Runner(builder.build()).run()) {
+        unit = result.getPrimaryResult().getScoreUnit();
+        double[] cell = {result.getPrimaryResult().getScore(), loaded(result)};
+        table.computeIfAbsent(Labels.label(result.getParams()),
+            k -> new EnumMap<>(Config.class)).put(config, cell);
+      }
+    }
+    print(table, unit);
+  }
+
+  /**
+   * Calls each {@code ColdStart} benchmark once. Run by the JVM that creates the
+   * AppCDS archive.
+   */
+  public static final class Training {
+
+    private Training() {}
+
+    public static void main(String[] args) throws Exception {
+      Class<?> benchmarks = Class.forName(BENCHMARK_CLASS);
+      Object instance = benchmarks.getConstructor().newInstance();
+      benchmarks.getMethod("setup").invoke(instance);
+      for (Method method : benchmarks.getMethods()) {
+        if (method.isAnnotationPresent(Benchmark.class)) {
+          try {
+            method.invoke(instance);
+          } catch (InvocationTargetException e) {
+            // Fail-path variants are allowed to throw
+          }
+        }
+      }
+    }
+
+  }
+
+  private static void createArchive(Path archive) throws Exception {
+    Files.createDirectories(archive.getParent());
+    Files.deleteIfExists(archive);
+    String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    Process process = new ProcessBuilder(java,
+        "-XX:ArchiveClassesAtExit=" + archive,
+        "-cp",
+        System.getProperty("java.class.path"),
+        Training.class.getName())
+        .inheritIO()
+        .start();
+    if (process.waitFor() != 0 || !Files.exists(archive)) {
+      throw new IllegalStateException("Failed to create CDS archive " + archive);
+    }
+    System.out.printf("Created CDS archive %s%n", archive);
+  }
+
+  /**
+   * Returns class.load.norm, or NaN if the class loader profiler produced no such
+   * result.
+   */
+  private static double loaded(RunResult result) {
+    for (Map.Entry<String, Result> e : result.getSecondaryResults().entrySet()) {
+      if (e.getKey().endsWith("class.load.norm")) {
+        return e.getValue().getScore();
+      }
+    }
+    return Double.NaN;
+  }
+
+  private static void print(Map<String, Map<Config, double[]>> table, String unit) {
+    int width = table.keySet().stream().mapToInt(String::length).max().orElse(9);
+    StringBuilder sb = new StringBuilder(256);
+    sb.append(String.format("%n%-" + width + "s", "Benchmark"));
+    for (Config config : Config.values()) {
+      sb.append(String.format("  %22s", config.label));
+    }
+    sb.append(String.format("  (%s, classes loaded)%n", unit));
+    table.forEach((label, byConfig) -> {
+      sb.append(String.format("%-" + width + "s", label));
+      for (Config config : Config.values()) {
+        double[] cell = byConfig.get(config);
+        sb.append(cell == null
+            ? String.format("  %22s", "-")
+            : String.format("  %12.1f %9.0f", cell[0], cell[1]));
+      }
+      sb.append(System.lineSeparator());
+    });
+    System.out.print(sb);
+  }
+
+}
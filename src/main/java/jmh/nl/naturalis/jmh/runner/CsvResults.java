@@ -0,0 +1,73 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the primary results from a file written by JMH with {@code -rf csv}.
+ */
+final class CsvResults {
+
+  private CsvResults() {}
+
+  /**
+   * Returns one row per benchmark, containing the benchmark label (see
+   * {@link Labels}), the formatted score and the score unit. Secondary results (e.g.
+   * those produced by profilers) are skipped.
+   */
+  static List<String[]> read(Path csv) throws IOException {
+    List<String[]> rows = new ArrayList<>();
+    if (!Files.isRegularFile(csv) || Files.size(csv) == 0) {
+      return rows;
+    }
+    List<String> lines = Files.readAllLines(csv);
+    List<String> header = split(lines.get(0));
+    for (String line : lines.subList(1, lines.size())) {
+      List<String> cells = split(line);
+      String benchmark = cells.get(0);
+      if (benchmark.indexOf(':') != -1) {
+        continue;
+      }
+      Map<String, String> params = new LinkedHashMap<>();
+      // A results file has a column for every parameter of every benchmark in it
+      for (int j = 7; j < header.size(); ++j) {
+        if (!cells.get(j).isEmpty()) {
+          params.put(header.get(j).replace("Param: ", ""), cells.get(j));
+        }
+      }
+      String label = Labels.label(benchmark, params);
+      double score = Double.parseDouble(cells.get(4));
+      double error = Double.parseDouble(cells.get(5));
+      String formatted = Double.isNaN(error)
+          ? String.format("%.3f", score)
+          : String.format("%.3f ± %.3f", score, error);
+      rows.add(new String[] {label, formatted, cells.get(6)});
+    }
+    return rows;
+  }
+
+  private static List<String> split(String line) {
+    List<String> cells = new ArrayList<>();
+    StringBuilder cell = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); ++i) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (c == ',' && !quoted) {
+        cells.add(cell.toString());
+        cell.setLength(0);
+      } else {
+        cell.append(c);
+      }
+    }
+    cells.add(cell.toString());
+    return cells;
+  }
+
+}
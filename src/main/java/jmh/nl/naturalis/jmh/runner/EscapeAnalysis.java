@@ -0,0 +1,102 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+
+/**
+ * Runs the selected benchmarks three times: with the default JIT configuration,
+ * with escape analysis disabled ({@code -XX:-DoEscapeAnalysis}), and with C1 only
+ * ({@code -XX:TieredStopAtLevel=1}). Prints the time and the number of bytes
+ * allocated per operation for each configuration, and then checks the results of
+ * the default configuration against the {@link AllocationBudget} of each benchmark
+ * (see {@link AllocationGate}). Exits with status 1 if any benchmark exceeds its
+ * budget. Without any benchmark selection, the "100_Percent_Pass" benchmarks are
+ * run. All arguments are passed on to JMH as-is. For example:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.EscapeAnalysis
+ * </pre>
+ */
+public final class EscapeAnalysis {
+
+  private enum Config {
+    DEFAULT("default"),
+    NO_EA("no-EA", "-XX:-DoEscapeAnalysis"),
+    C1_ONLY("C1-only", "-XX:TieredStopAtLevel=1");
+
+    private final String label;
+    private final String[] jvmArgs;
+
+    Config(String label, String... jvmArgs) {
+      this.label = label;
+      this.jvmArgs = jvmArgs;
+    }
+  }
+
+  private EscapeAnalysis() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdline = new CommandLineOptions(args);
+    Map<String, Map<Config, double[]>> table = new TreeMap<>();
+    Collection<RunResult> baseline = List.of();
+    String unit = "";
+    for (Config config : Config.values()) {
+      ChainedOptionsBuilder builder = new OptionsBuilder()
+          .parent(cmdline)
+          .addProfiler(GCProfiler.class);
+      String[] jvmArgs = JvmArgs.append(cmdline, config.jvmArgs);
+      if (jvmArgs.length != 0) {
+        builder.jvmArgsAppend(jvmArgs);
+      }
+      if (cmdline.getIncludes().isEmpty()) {
+        builder.include("_100_Percent_Pass");
+      }
+      Collection<RunResult> results = new Runner(builder.build()).run();
+      if (config == Config.DEFAULT) {
+        baseline = results;
+      }
+      for (RunResult result : results) {
+        unit = result.getPrimaryResult().getScoreUnit();
+        Double bytes = AllocationGate.allocated(result);
+        double[] cell = {
+            result.getPrimaryResult().getScore(),
+            bytes == null ? Double.NaN : bytes
+        };
+        table.computeIfAbsent(Labels.label(result.getParams()),
+            k -> new EnumMap<>(Config.class)).put(config, cell);
+      }
+    }
+    print(table, unit);
+    if (AllocationGate.check(baseline, System.out) != 0) {
+      System.exit(1);
+    }
+  }
+
+  private static void print(Map<String, Map<Config, double[]>> table, String unit) {
+    int width = table.keySet().stream().mapToInt(String::length).max().orElse(9);
+    StringBuilder sb = new StringBuilder(256);
+    sb.append(String.format("%n%-" + width + "s", "Benchmark"));
+    for (Config config : Config.values()) {
+      sb.append(String.format("  %22s", config.label));
+    }
+    sb.append(String.format("  (%s, B/op)%n", unit));
+    table.forEach((label, byConfig) -> {
+      sb.append(String.format("%-" + width + "s", label));
+      for (Config config : Config.values()) {
+        double[] cell = byConfig.get(config);
+        sb.append(cell == null
+            ? String.format("  %22s", "-")
+            : String.format("  %12.3f %9.1f", cell[0], cell[1]));
+      }
+      sb.append(System.lineSeparator());
+    });
+    System.out.print(sb);
+  }
+
+}
@@ -0,0 +1,170 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the inlining decisions from JMH's output for benchmarks running with
+ * {@code -XX:+PrintCompilation -XX:+PrintInlining}. Both C1 and C2 print their
+ * inlining decisions, and C2 prints them only once the compilation is finished, so
+ * they cannot reliably be attributed to either compiler. A method that failed to
+ * inline in one place, but got inlined in another, was most likely inlined by C2 in
+ * the end. A method that never got inlined is the real problem.
+ */
+final class InliningLog {
+
+  /*
+   * E.g. "@ 12   org.klojang.check.ObjectCheck::is (45 bytes)   inline (hot)"
+   * or "@ 20   org.klojang.check.x.Foo::bar (400 bytes)   hot method too big"
+   */
+  private static final Pattern INLINING = Pattern.compile(
+      "@ +\\d+ +(\\S+::\\S+) +\\((\\d+) bytes\\) +(.+)$");
+
+  private static final Pattern COMPILATION = Pattern.compile(
+      "^ *\\d+ +\\d+ .{5,7} +\\d +(\\S+::\\S+).*");
+
+  private static final String BENCHMARK = "# Benchmark: ";
+  private static final String PARAMETERS = "# Parameters: ";
+  private static final String FAILED = "failed to inline: ";
+
+  // Inlining failures per method and reason
+  private final Map<String, Map<String, Integer>> failures = new TreeMap<>();
+  // Number of times each method was inlined
+  private final Map<String, Integer> inlined = new TreeMap<>();
+  // Number of times each method was compiled, or made not entrant
+  private final Map<String, Integer> compiled = new TreeMap<>();
+  private final Map<String, Integer> deoptimized = new TreeMap<>();
+
+  private InliningLog() {}
+
+  /**
+   * Parses the specified JMH output file into one log per benchmark (and parameter
+   * combination), keeping only methods whose fully-qualified name starts with one of
+   * the specified prefixes.
+   */
+  static Map<String, InliningLog> parse(Path file, List<String> prefixes)
+      throws IOException {
+    Map<String, InliningLog> logs = new LinkedHashMap<>();
+    InliningLog log = null;
+    String benchmark = null;
+    for (String line : Files.readAllLines(file)) {
+      if (line.startsWith(BENCHMARK)) {
+        benchmark = line.substring(BENCHMARK.length()).strip();
+        log = logs.computeIfAbsent(benchmark, k -> new InliningLog());
+        continue;
+      }
+      if (line.startsWith(PARAMETERS) && benchmark != null) {
+        logs.remove(benchmark);
+        String key = benchmark + " " + line.substring(PARAMETERS.length()).strip();
+        log = logs.computeIfAbsent(key, k -> new InliningLog());
+        continue;
+      }
+      if (log == null) {
+        continue;
+      }
+      Matcher m = INLINING.matcher(line);
+      if (m.find()) {
+        if (matches(m.group(1), prefixes)) {
+          String method = m.group(1) + " (" + m.group(2) + " bytes)";
+          log.addInlining(method, m.group(3).strip());
+        }
+        continue;
+      }
+      m = COMPILATION.matcher(line);
+      if (m.matches() && matches(m.group(1), prefixes)) {
+        if (line.contains("made not entrant")) {
+          log.deoptimized.merge(m.group(1), 1, Integer::sum);
+        } else {
+          log.compiled.merge(m.group(1), 1, Integer::sum);
+        }
+      }
+    }
+    return logs;
+  }
+
+  /**
+   * Returns true if at least one method failed to inline everywhere it was called.
+   */
+  boolean hasFailures() {
+    return failures.keySet().stream().anyMatch(m -> !inlined.containsKey(m));
+  }
+
+  /**
+   * Returns a human-readable report of the inlining failures, followed by the
+   * methods that were inlined and compiled.
+   */
+  String report() {
+    StringBuilder sb = new StringBuilder(512);
+    appendFailures(sb, "NEVER INLINED", false);
+    appendFailures(sb, "NOT ALWAYS INLINED", true);
+    if (failures.isEmpty()) {
+      sb.append("  No inlining failures\n");
+    }
+    append(sb, "INLINED", inlined);
+    append(sb, "COMPILED", compiled);
+    append(sb, "MADE NOT ENTRANT", deoptimized);
+    return sb.toString();
+  }
+
+  private void addInlining(String method, String decision) {
+    if (isSuccess(decision)) {
+      inlined.merge(method, 1, Integer::sum);
+    } else {
+      if (decision.startsWith(FAILED)) {
+        decision = decision.substring(FAILED.length());
+      }
+      failures.computeIfAbsent(method, k -> new TreeMap<>())
+          .merge(decision, 1, Integer::sum);
+    }
+  }
+
+  private void appendFailures(StringBuilder sb, String title, boolean inlinedToo) {
+    boolean first = true;
+    for (Map.Entry<String, Map<String, Integer>> e : failures.entrySet()) {
+      if (inlined.containsKey(e.getKey()) != inlinedToo) {
+        continue;
+      }
+      if (first) {
+        sb.append("  ").append(title).append('\n');
+        first = false;
+      }
+      e.getValue().forEach((reason, count) -> sb.append(
+          String.format("    %-60s %s (%dx)%n", e.getKey(), reason, count)));
+    }
+  }
+
+  private static boolean isSuccess(String decision) {
+    return decision.startsWith("inline")
+        || decision.startsWith("force inline")
+        || decision.startsWith("accessor")
+        || decision.startsWith("(intrinsic")
+        || decision.startsWith("intrinsic");
+  }
+
+  private static boolean matches(String method, List<String> prefixes) {
+    for (String prefix : prefixes) {
+      if (method.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void append(StringBuilder sb,
+      String title,
+      Map<String, Integer> map) {
+    if (!map.isEmpty()) {
+      sb.append("  ").append(title).append('\n');
+      map.forEach((method, count) ->
+          sb.append(String.format("    %-60s %dx%n", method, count)));
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.profile.LinuxPerfAsmProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the selected benchmarks with {@code -XX:+PrintCompilation} and
+ * {@code -XX:+PrintInlining}, and prints a report of the inlining decisions for the
+ * Klojang Check frames of each benchmark. Inlining failures are listed with the
+ * reason given by the JIT compiler (e.g. "too big", "hot method too big", "already
+ * compiled into a big method"). All arguments are passed on to JMH as-is. Unless
+ * specified otherwise, each benchmark is run in a single fork. For example:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.JitDiagnostics \
+ *     NotNull_100_Percent_Pass
+ * </pre>
+ *
+ * <p>System properties:
+ *
+ * <ul>
+ *   <li>{@code jit.dir}: the directory for the raw JVM output and the reports
+ *       (default target/jit)
+ *   <li>{@code jit.packages}: comma-separated package prefixes of the frames to
+ *       report on (default org.klojang.)
+ *   <li>{@code jit.perfasm}: if "true", also run JMH's perfasm profiler (requires
+ *       Linux perf and the hsdis disassembler library)
+ * </ul>
+ *
+ * <p>The JVM output is captured through JMH's output file (jit.log). The timings
+ * are distorted by the diagnostic output and should be ignored.
+ */
+public final class JitDiagnostics {
+
+  private JitDiagnostics() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmd = new CommandLineOptions(args);
+    Path dir = Path.of(System.getProperty("jit.dir", "target/jit"));
+    List<String> prefixes = new ArrayList<>();
+    for (String s : System.getProperty("jit.packages", "org.klojang.").split(",")) {
+      prefixes.add(s.strip());
+    }
+    Files.createDirectories(dir);
+    Path log = dir.resolve("jit.log");
+    ChainedOptionsBuilder builder = new OptionsBuilder()
+        .parent(cmd)
+        .jvmArgsAppend(JvmArgs.append(cmd,
+            "-XX:+UnlockDiagnosticVMOptions",
+            "-XX:+PrintCompilation",
+            "-XX:+PrintInlining"))
+        .output(log.toString());
+    if (!cmd.getForkCount().hasValue()) {
+      builder.forks(1);
+    }
+    if (Boolean.getBoolean("jit.perfasm")) {
+      builder.addProfiler(LinuxPerfAsmProfiler.class);
+    }
+    new Runner(builder.build()).run();
+    int failed = 0;
+    StringBuilder sb = new StringBuilder(1024);
+    for (Map.Entry<String, InliningLog> e : InliningLog.parse(log, prefixes)
+        .entrySet()) {
+      String report = e.getKey() + System.lineSeparator() + e.getValue().report();
+      Files.writeString(dir.resolve(fileName(e.getKey())), report);
+      sb.append(System.lineSeparator()).append(report);
+      if (e.getValue().hasFailures()) {
+        ++failed;
+      }
+    }
+    System.out.print(sb);
+    System.out.printf("%n%d benchmark(s) with frames that never got inlined. "
+        + "Raw output: %s%n", failed, log);
+  }
+
+  private static String fileName(String benchmark) {
+    return benchmark.replaceAll("[^A-Za-z0-9._=-]+", "_") + ".txt";
+  }
+
+}
@@ -0,0 +1,25 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class JvmArgs {
+
+  private JvmArgs() {}
+
+  /**
+   * Returns the {@code -jvmArgsAppend} arguments from the command line, followed by
+   * the specified arguments. {@code OptionsBuilder.parent()} does not merge these
+   * arguments, so a runner that appends JVM arguments of its own must pass the ones
+   * from the command line along with them.
+   */
+  static String[] append(CommandLineOptions cmdline, String... jvmArgs) {
+    List<String> all = new ArrayList<>(cmdline.getJvmArgsAppend().orElse(List.of()));
+    all.addAll(Arrays.asList(jvmArgs));
+    return all.toArray(String[]::new);
+  }
+
+}
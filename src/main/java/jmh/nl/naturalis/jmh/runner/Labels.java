@@ -0,0 +1,36 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Labels {
+
+  private Labels() {}
+
+  /**
+   * Returns the simple class name and method name of the benchmark, followed by the
+   * values of its parameters (if any).
+   */
+  public static String label(BenchmarkParams params) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (String key : params.getParamsKeys()) {
+      values.put(key, params.getParam(key));
+    }
+    return label(params.getBenchmark(), values);
+  }
+
+  /**
+   * Returns the simple class name and method name of the specified benchmark (a
+   * fully-qualified method name), followed by the specified parameter values, in
+   * iteration order.
+   */
+  public static String label(String benchmark, Map<String, String> params) {
+    int i = benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1);
+    StringBuilder sb = new StringBuilder(benchmark.substring(i + 1));
+    params.forEach((k, v) -> sb.append(' ').append(k).append('=').append(v));
+    return sb.toString();
+  }
+
+}
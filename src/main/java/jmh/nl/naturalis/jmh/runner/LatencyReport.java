@@ -0,0 +1,66 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the selected benchmarks in SampleTime mode and prints one line of
+ * percentiles per benchmark (and parameter combination), computed over the samples
+ * of all forks together. All arguments are passed on to JMH as-is. For example:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.LatencyReport \
+ *     _Latency
+ * </pre>
+ */
+public final class LatencyReport {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+  private static final String[] HEADERS = {"p50", "p90", "p99", "p99.9", "p99.99"};
+
+  private LatencyReport() {}
+
+  public static void main(String[] args) throws Exception {
+    Options opts = new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .mode(Mode.SampleTime)
+        .build();
+    print(new Runner(opts).run());
+  }
+
+  private static void print(Collection<RunResult> results) {
+    Map<String, Result<?>> byLabel = new TreeMap<>();
+    for (RunResult result : results) {
+      byLabel.put(Labels.label(result.getParams()), result.getPrimaryResult());
+    }
+    int width = byLabel.keySet().stream().mapToInt(String::length).max().orElse(9);
+    StringBuilder sb = new StringBuilder(256);
+    sb.append(String.format("%n%-" + width + "s  %10s", "Benchmark", "n"));
+    for (String header : HEADERS) {
+      sb.append(String.format("  %10s", header));
+    }
+    sb.append(String.format("  %10s%n", "max"));
+    byLabel.forEach((label, result) -> {
+      Statistics stats = result.getStatistics();
+      sb.append(String.format("%-" + width + "s  %10d", label, stats.getN()));
+      for (double p : PERCENTILES) {
+        sb.append(String.format("  %10.0f", stats.getPercentile(p)));
+      }
+      sb.append(String.format("  %10.0f  (%s)%n",
+          stats.getMax(),
+          result.getScoreUnit()));
+    });
+    System.out.print(sb);
+  }
+
+}
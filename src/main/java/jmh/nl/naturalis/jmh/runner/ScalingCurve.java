@@ -0,0 +1,138 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.BenchmarkList;
+import org.openjdk.jmh.runner.BenchmarkListEntry;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.format.OutputFormat;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the selected benchmarks once for each thread count and prints the throughput
+ * per thread count, along with the scaling efficiency relative to a single thread
+ * (1.00 means perfectly linear scaling). All arguments are passed on to JMH as-is.
+ * The thread counts default to 1, 2, 4, ... up to the number of available
+ * processors, and can be overridden with the {@code scaling.threads} system
+ * property. Benchmarks using {@code @Group} can only run with a multiple of the
+ * group size. These are run separately, with the given number of groups rather than
+ * threads, and are labeled accordingly. For example:
+ *
+ * <pre>
+ * java -Dscaling.threads=1,2,4,8,16,32,64 \
+ *     -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.ScalingCurve \
+ *     NotNull_Contention -p passRate=99
+ * </pre>
+ */
+public final class ScalingCurve {
+
+  private ScalingCurve() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdline = new CommandLineOptions(args);
+    List<Integer> threadCounts = threadCounts();
+    Map<Integer, Set<String>> byGroupSize = byGroupSize(cmdline);
+    Map<String, Map<Integer, Double>> scores = new TreeMap<>();
+    String unit = "";
+    for (int groupSize : byGroupSize.keySet()) {
+      for (int count : threadCounts) {
+        ChainedOptionsBuilder opts = new OptionsBuilder()
+            .parent(cmdline)
+            .mode(Mode.Throughput)
+            .threads(count * groupSize);
+        // Include options are merged with those on the command line, so select
+        // the benchmarks with this group size by excluding all others
+        byGroupSize.forEach((size, benchmarks) -> {
+          if (size != groupSize) {
+            benchmarks.forEach(b -> opts.exclude("^" + Pattern.quote(b) + "$"));
+          }
+        });
+        for (RunResult result : new Runner(opts.build()).run()) {
+          unit = result.getPrimaryResult().getScoreUnit();
+          String label = Labels.label(result.getParams());
+          if (groupSize > 1) {
+            label += " (groups of " + groupSize + ")";
+          }
+          scores.computeIfAbsent(label, k -> new TreeMap<>())
+              .put(count, result.getPrimaryResult().getScore());
+        }
+      }
+    }
+    print(scores, threadCounts, unit);
+  }
+
+  /*
+   * Returns the names of the selected benchmarks, grouped by the number of threads
+   * in a group (1 for benchmarks not using @Group).
+   */
+  private static Map<Integer, Set<String>> byGroupSize(CommandLineOptions cmdline) {
+    List<String> includes = cmdline.getIncludes().isEmpty()
+        ? List.of(".*")
+        : cmdline.getIncludes();
+    OutputFormat out = OutputFormatFactory.createFormatInstance(System.out,
+        VerboseMode.SILENT);
+    Map<Integer, Set<String>> byGroupSize = new TreeMap<>();
+    for (BenchmarkListEntry entry : BenchmarkList.defaultList()
+        .find(out, includes, cmdline.getExcludes())) {
+      int size = IntStream.of(entry.getThreadGroups()).sum();
+      byGroupSize.computeIfAbsent(size, k -> new TreeSet<>())
+          .add(entry.getUsername());
+    }
+    return byGroupSize;
+  }
+
+  private static List<Integer> threadCounts() {
+    List<Integer> counts = new ArrayList<>();
+    String prop = System.getProperty("scaling.threads");
+    if (prop != null) {
+      for (String s : prop.split(",")) {
+        counts.add(Integer.valueOf(s.strip()));
+      }
+    } else {
+      int max = Runtime.getRuntime().availableProcessors();
+      for (int i = 1; i < max; i *= 2) {
+        counts.add(i);
+      }
+      counts.add(max);
+    }
+    return counts;
+  }
+
+  private static void print(Map<String, Map<Integer, Double>> scores,
+      List<Integer> threadCounts,
+      String unit) {
+    int width = scores.keySet().stream().mapToInt(String::length).max().orElse(9);
+    StringBuilder sb = new StringBuilder(256);
+    sb.append(String.format("%n%-" + width + "s", "Benchmark"));
+    for (int threads : threadCounts) {
+      sb.append(String.format("  %14s", "t=" + threads));
+    }
+    sb.append(String.format("  (%s, scaling efficiency)%n", unit));
+    scores.forEach((label, byThreads) -> {
+      sb.append(String.format("%-" + width + "s", label));
+      Double single = byThreads.get(threadCounts.get(0));
+      for (int threads : threadCounts) {
+        Double score = byThreads.get(threads);
+        if (score == null) {
+          sb.append(String.format("  %14s", "-"));
+        } else if (single == null) {
+          sb.append(String.format("  %14.3f", score));
+        } else {
+          double efficiency = score * threadCounts.get(0) / (single * threads);
+          sb.append(String.format("  %7.1f (%.2f)", score, efficiency));
+        }
+      }
+      sb.append(System.lineSeparator());
+    });
+    System.out.print(sb);
+  }
+
+}
@@ -0,0 +1,201 @@
+package jmh.nl.naturalis.jmh.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Runs the selected benchmarks against several versions of Klojang Check and prints
+ * a single table with one row per benchmark and one column per version. Each version
+ * is run in a separate JMH process, whose class path consists of the Klojang Check
+ * jar for that version plus the class path of this process, with the Klojang Check
+ * classes removed from it. The benchmark jar has the version from the pom file
+ * shaded into it, so it is replaced with a temporary copy without the
+ * {@code org/klojang/check} classes. A class missing from the tested version
+ * therefore fails to load rather than being loaded from another version. The JMH
+ * forks inherit the class path of their JMH process.
+ *
+ * <p>The versions are specified through the {@code matrix.versions} system property
+ * (comma-separated). A version can be a path to a jar file, or a version number, in
+ * which case the jar is looked up in target/klojang-check and in the local Maven
+ * repository. All arguments are passed on to JMH as-is. For example:
+ *
+ * <pre>
+ * mvn dependency:copy -Dartifact=org.klojang:klojang-check:1.0.3 \
+ *     -DoutputDirectory=target/klojang-check
+ * java -Dmatrix.versions=1.0.2,1.0.3 \
+ *     -cp target/benchmarks.jar jmh.nl.naturalis.jmh.runner.VersionMatrix \
+ *     NotNull_100_Percent_Pass
+ * </pre>
+ *
+ * <p>Note that the benchmarks are compiled against the version of Klojang Check in
+ * the pom file. Benchmarks using an API that does not exist (or differs) in another
+ * version will fail for that version, and show up as "-" in the table.
+ */
+public final class VersionMatrix {
+
+  private static final String KLOJANG_CHECK = "org/klojang/check/";
+
+  private VersionMatrix() {}
+
+  public static void main(String[] args) throws Exception {
+    String prop = System.getProperty("matrix.versions");
+    if (prop == null || prop.isBlank()) {
+      System.err.println("Specify the versions to compare with -Dmatrix.versions");
+      System.exit(1);
+    }
+    List<String> versions = new ArrayList<>();
+    for (String s : prop.split(",")) {
+      versions.add(s.strip());
+    }
+    List<String> columns = versions.stream().map(VersionMatrix::columnName).toList();
+    Map<String, Map<String, String>> table = new TreeMap<>();
+    String unit = "";
+    Path tmpDir = Files.createTempDirectory("jmh-klojang-check-");
+    try {
+      String classPath = isolatedClassPath(tmpDir);
+      for (int v = 0; v < versions.size(); ++v) {
+        String version = versions.get(v);
+        Path jar = resolve(version);
+        Path csv = Files.createTempFile("jmh-klojang-check-", ".csv");
+        try {
+          int exit = runJmh(jar, classPath, csv, args);
+          if (exit != 0) {
+            System.err.printf("JMH exited with status %d for %s%n", exit, version);
+          }
+          for (String[] row : CsvResults.read(csv)) {
+            table.computeIfAbsent(row[0], k -> new HashMap<>())
+                .put(columns.get(v), row[1]);
+            unit = row[2];
+          }
+        } finally {
+          Files.deleteIfExists(csv);
+        }
+      }
+    } finally {
+      try (Stream<Path> files = Files.list(tmpDir)) {
+        for (Path file : files.toList()) {
+          Files.delete(file);
+        }
+      }
+      Files.delete(tmpDir);
+    }
+    print(table, columns, unit);
+  }
+
+  private static int runJmh(Path jar, String classPath, Path csv, String[] args)
+      throws IOException, InterruptedException {
+    List<String> cmd = new ArrayList<>();
+    cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    cmd.add("-Duser.language=en");
+    cmd.add("-cp");
+    cmd.add(jar + File.pathSeparator + classPath);
+    cmd.add("org.openjdk.jmh.Main");
+    cmd.addAll(Arrays.asList(args));
+    cmd.addAll(List.of("-rf", "csv", "-rff", csv.toString()));
+    return new ProcessBuilder(cmd).inheritIO().start().waitFor();
+  }
+
+  /*
+   * Returns the class path of this process, with every jar file containing Klojang
+   * Check classes replaced by a copy (in tmpDir) without them.
+   */
+  private static String isolatedClassPath(Path tmpDir) throws IOException {
+    String[] entries = System.getProperty("java.class.path")
+        .split(File.pathSeparator);
+    List<String> classPath = new ArrayList<>(entries.length);
+    for (int i = 0; i < entries.length; ++i) {
+      Path entry = Path.of(entries[i]);
+      if (Files.isDirectory(entry.resolve(KLOJANG_CHECK))) {
+        throw new IllegalStateException("Klojang Check classes in " + entry);
+      } else if (Files.isRegularFile(entry) && containsKlojangCheck(entry)) {
+        Path copy = tmpDir.resolve(i + "-" + entry.getFileName());
+        copyWithoutKlojangCheck(entry, copy);
+        classPath.add(copy.toString());
+      } else {
+        classPath.add(entries[i]);
+      }
+    }
+    return String.join(File.pathSeparator, classPath);
+  }
+
+  private static boolean containsKlojangCheck(Path jar) throws IOException {
+    try (ZipFile zip = new ZipFile(jar.toFile())) {
+      return zip.stream().anyMatch(e -> isKlojangCheck(e.getName()));
+    }
+  }
+
+  private static void copyWithoutKlojangCheck(Path jar, Path copy)
+      throws IOException {
+    try (ZipFile in = new ZipFile(jar.toFile());
+        ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(copy))) {
+      for (ZipEntry entry : Collections.list(in.entries())) {
+        if (!isKlojangCheck(entry.getName())) {
+          out.putNextEntry(new ZipEntry(entry.getName()));
+          in.getInputStream(entry).transferTo(out);
+          out.closeEntry();
+        }
+      }
+    }
+  }
+
+  // Also matches the classes in META-INF/versions of a multi-release jar
+  private static boolean isKlojangCheck(String name) {
+    return name.startsWith(KLOJANG_CHECK) || name.contains("/" + KLOJANG_CHECK);
+  }
+
+  private static Path resolve(String version) {
+    if (version.endsWith(".jar")) {
+      return check(Path.of(version));
+    }
+    String name = "klojang-check-" + version + ".jar";
+    Path local = Path.of("target", "klojang-check", name);
+    if (Files.isRegularFile(local)) {
+      return local;
+    }
+    return check(Path.of(System.getProperty("user.home"),
+        ".m2", "repository", "org", "klojang", "klojang-check", version, name));
+  }
+
+  private static String columnName(String version) {
+    if (version.endsWith(".jar")) {
+      String name = Path.of(version).getFileName().toString();
+      return name.substring(0, name.length() - 4).replace("klojang-check-", "");
+    }
+    return version;
+  }
+
+  private static Path check(Path jar) {
+    if (!Files.isRegularFile(jar)) {
+      throw new IllegalArgumentException("no such file: " + jar);
+    }
+    return jar;
+  }
+
+  private static void print(Map<String, Map<String, String>> table,
+      List<String> columns,
+      String unit) {
+    int width = table.keySet().stream().mapToInt(String::length).max().orElse(9);
+    StringBuilder sb = new StringBuilder(256);
+    sb.append(String.format("%n%-" + width + "s", "Benchmark"));
+    for (String column : columns) {
+      sb.append(String.format("  %20s", column));
+    }
+    sb.append(String.format("  (%s)%n", unit));
+    table.forEach((label, scores) -> {
+      sb.append(String.format("%-" + width + "s", label));
+      for (String column : columns) {
+        sb.append(String.format("  %20s", scores.getOrDefault(column, "-")));
+      }
+      sb.append(System.lineSeparator());
+    });
+    System.out.print(sb);
+  }
+
+}
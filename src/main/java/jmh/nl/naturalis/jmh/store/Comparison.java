@@ -0,0 +1,87 @@
+package jmh.nl.naturalis.jmh.store;
+
+import org.apache.commons.math3.distribution.TDistribution;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lines up the results of two runs per benchmark and prints the relative difference
+ * between them, along with a 95% confidence interval for that difference (Welch's
+ * t-interval over the measurement iterations). A difference is marked as
+ * significant if the confidence interval does not contain zero. Benchmarks that only
+ * occur in one of the two runs, or whose mode or unit differ, are skipped.
+ */
+final class Comparison {
+
+  private static final double CONFIDENCE = 0.95;
+
+  private Comparison() {}
+
+  static void print(List<StoredResult> before, List<StoredResult> after,
+      PrintStream out) {
+    Map<String, StoredResult> index = new LinkedHashMap<>();
+    before.forEach(r -> index.put(r.benchmark() + '\t' + r.mode(), r));
+    int width = after.stream()
+        .mapToInt(r -> r.benchmark().length())
+        .max()
+        .orElse(9);
+    String format = "%-" + width + "s  %5s  %12s  %12s  %-8s  %8s  %-19s%s%n";
+    out.printf(format, "Benchmark", "Mode", "Before", "After", "Units", "Delta",
+        "95% CI", "");
+    for (StoredResult b : after) {
+      StoredResult a = index.get(b.benchmark() + '\t' + b.mode());
+      if (a == null || !a.unit().equals(b.unit())) {
+        continue;
+      }
+      double delta = b.mean() - a.mean();
+      double[] ci = confidenceInterval(a, b);
+      boolean significant = ci != null && (ci[0] > 0 || ci[1] < 0);
+      out.printf(format,
+          b.benchmark(),
+          b.mode(),
+          String.format("%.3f", a.mean()),
+          String.format("%.3f", b.mean()),
+          b.unit(),
+          percent(delta, a.mean()),
+          ci == null ? "n/a" : interval(ci, a.mean()),
+          significant ? "  *" : "");
+    }
+    out.println();
+    out.println("* significant at " + (int) (CONFIDENCE * 100) + "% confidence");
+  }
+
+  /**
+   * Returns the confidence interval for the difference between the means of the
+   * two results, or null if either result has fewer than two samples.
+   */
+  static double[] confidenceInterval(StoredResult a, StoredResult b) {
+    if (a.n() < 2 || b.n() < 2) {
+      return null;
+    }
+    double va = a.stdDev() * a.stdDev() / a.n();
+    double vb = b.stdDev() * b.stdDev() / b.n();
+    double se = Math.sqrt(va + vb);
+    double delta = b.mean() - a.mean();
+    if (se == 0) {
+      return new double[] {delta, delta};
+    }
+    // Welch-Satterthwaite approximation of the degrees of freedom
+    double df = (va + vb) * (va + vb)
+        / (va * va / (a.n() - 1) + vb * vb / (b.n() - 1));
+    double t = new TDistribution(df).inverseCumulativeProbability(
+        1 - (1 - CONFIDENCE) / 2);
+    return new double[] {delta - t * se, delta + t * se};
+  }
+
+  private static String interval(double[] ci, double base) {
+    return "[" + percent(ci[0], base) + ", " + percent(ci[1], base) + "]";
+  }
+
+  private static String percent(double delta, double base) {
+    return String.format("%+.1f%%", 100 * delta / base);
+  }
+
+}
@@ -0,0 +1,142 @@
+package jmh.nl.naturalis.jmh.store;
+
+import jmh.nl.naturalis.jmh.runner.Labels;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.util.Statistics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A directory-based store for benchmark results. Each run gets its own directory,
+ * grouped by the version of Klojang Check it was run against:
+ *
+ * <pre>
+ * results/
+ *   1.0.2/
+ *     20230312-141500/
+ *       jmh.json        (JMH's own JSON output)
+ *       summary.tsv     (one line per benchmark; used for comparisons)
+ *       run.properties  (see RunMetadata)
+ * </pre>
+ *
+ * The root directory defaults to "results" in the current working directory, and can
+ * be changed through the {@code store.dir} system property.
+ */
+public final class ResultStore {
+
+  static final String JSON_FILE = "jmh.json";
+  static final String SUMMARY_FILE = "summary.tsv";
+
+  private final Path root;
+
+  public ResultStore(Path root) {
+    this.root = root;
+  }
+
+  public static ResultStore open() {
+    return new ResultStore(Path.of(System.getProperty("store.dir", "results")));
+  }
+
+  /**
+   * Saves the results of a run and returns the directory they were saved to.
+   */
+  public Path save(Collection<RunResult> results, RunMetadata meta)
+      throws IOException {
+    Path dir = root.resolve(meta.get(RunMetadata.KLOJANG_CHECK_VERSION))
+        .resolve(meta.get(RunMetadata.RUN_ID));
+    Files.createDirectories(dir);
+    OutputStream json = Files.newOutputStream(dir.resolve(JSON_FILE));
+    try (PrintStream ps = new PrintStream(json, false, StandardCharsets.UTF_8)) {
+      ResultFormatFactory.getInstance(ResultFormatType.JSON, ps).writeOut(results);
+    }
+    try (BufferedWriter w = Files.newBufferedWriter(dir.resolve(SUMMARY_FILE))) {
+      w.write(StoredResult.HEADER);
+      w.newLine();
+      for (RunResult result : results) {
+        w.write(summarize(result).format());
+        w.newLine();
+      }
+    }
+    meta.save(dir);
+    return dir;
+  }
+
+  /**
+   * Returns the directories of all stored runs, oldest first.
+   */
+  public List<Path> runs() throws IOException {
+    if (!Files.isDirectory(root)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.walk(root, 2)) {
+      return files.filter(p -> Files.isRegularFile(p.resolve(SUMMARY_FILE)))
+          .sorted(Comparator.comparing(p -> p.getFileName().toString()))
+          .toList();
+    }
+  }
+
+  /**
+   * Finds a run by its id, or by "latest" or "previous". A unique prefix of the id
+   * will do, as will the path of the run directory.
+   */
+  public Path find(String id) throws IOException {
+    List<Path> runs = runs();
+    if (id.equals("latest") || id.equals("previous")) {
+      int offset = id.equals("latest") ? 1 : 2;
+      if (runs.size() < offset) {
+        throw new IllegalArgumentException("not enough runs in " + root);
+      }
+      return runs.get(runs.size() - offset);
+    }
+    if (Files.isRegularFile(Path.of(id).resolve(SUMMARY_FILE))) {
+      return Path.of(id);
+    }
+    List<Path> matches = new ArrayList<>();
+    for (Path run : runs) {
+      if (run.getFileName().toString().startsWith(id)) {
+        matches.add(run);
+      }
+    }
+    if (matches.size() != 1) {
+      String msg = matches.isEmpty() ? "no such run: " : "ambiguous run id: ";
+      throw new IllegalArgumentException(msg + id);
+    }
+    return matches.get(0);
+  }
+
+  public RunMetadata metadata(Path run) throws IOException {
+    return RunMetadata.load(run);
+  }
+
+  public List<StoredResult> summary(Path run) throws IOException {
+    List<String> lines = Files.readAllLines(run.resolve(SUMMARY_FILE));
+    return lines.stream().skip(1).map(StoredResult::parse).toList();
+  }
+
+  private static StoredResult summarize(RunResult result) {
+    Result<?> primary = result.getPrimaryResult();
+    Statistics stats = primary.getStatistics();
+    return new StoredResult(Labels.label(result.getParams()),
+        result.getParams().getMode().shortLabel(),
+        primary.getScoreUnit(),
+        stats.getN(),
+        stats.getMean(),
+        stats.getN() > 1 ? stats.getStandardDeviation() : 0,
+        primary.getScoreError());
+  }
+
+}
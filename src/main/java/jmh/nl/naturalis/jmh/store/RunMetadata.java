@@ -0,0 +1,146 @@
+package jmh.nl.naturalis.jmh.store;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The circumstances under which a benchmark run took place: the version of Klojang
+ * Check, the JDK, the JVM flags, the host and the git commit of this project. All
+ * values can be overridden through system properties with the same name as the key,
+ * which is useful when the values cannot be determined automatically (e.g. when
+ * running outside a git working tree).
+ */
+public final class RunMetadata {
+
+  public static final String RUN_ID = "run.id";
+  public static final String KLOJANG_CHECK_VERSION = "klojang-check.version";
+  public static final String JDK = "jdk";
+  public static final String JVM_FLAGS = "jvm.flags";
+  public static final String HOST = "host";
+  public static final String GIT_COMMIT = "git.commit";
+  public static final String JMH_ARGS = "jmh.args";
+
+  static final String FILE_NAME = "run.properties";
+
+  private static final String UNKNOWN = "unknown";
+
+  private static final String POM_PROPERTIES =
+      "/META-INF/maven/org.klojang/klojang-check/pom.properties";
+
+  private static final DateTimeFormatter RUN_ID_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private final Properties props;
+
+  private RunMetadata(Properties props) {
+    this.props = props;
+  }
+
+  /**
+   * Collects the metadata for a run that has just finished.
+   */
+  public static RunMetadata collect(Collection<RunResult> results,
+      String[] jmhArgs) {
+    Properties props = new Properties();
+    props.setProperty(RUN_ID, LocalDateTime.now().format(RUN_ID_FORMAT));
+    props.setProperty(KLOJANG_CHECK_VERSION,
+        override(KLOJANG_CHECK_VERSION, RunMetadata::klojangCheckVersion));
+    props.setProperty(JDK, override(JDK, () -> jdk(results)));
+    props.setProperty(JVM_FLAGS, override(JVM_FLAGS, () -> jvmFlags(results)));
+    props.setProperty(HOST, override(HOST, RunMetadata::host));
+    props.setProperty(GIT_COMMIT, override(GIT_COMMIT, RunMetadata::gitCommit));
+    props.setProperty(JMH_ARGS, String.join(" ", jmhArgs));
+    return new RunMetadata(props);
+  }
+
+  static RunMetadata load(Path runDir) throws IOException {
+    Properties props = new Properties();
+    try (Reader r = Files.newBufferedReader(runDir.resolve(FILE_NAME))) {
+      props.load(r);
+    }
+    return new RunMetadata(props);
+  }
+
+  void save(Path runDir) throws IOException {
+    try (Writer w = Files.newBufferedWriter(runDir.resolve(FILE_NAME))) {
+      props.store(w, "klojang-check-jmh benchmark run");
+    }
+  }
+
+  public String get(String key) {
+    return props.getProperty(key, UNKNOWN);
+  }
+
+  private static String override(String key, Supplier<String> dflt) {
+    String val = System.getProperty(key);
+    return val == null ? dflt.get() : val;
+  }
+
+  private static String klojangCheckVersion() {
+    try (InputStream in = RunMetadata.class.getResourceAsStream(POM_PROPERTIES)) {
+      if (in != null) {
+        Properties props = new Properties();
+        props.load(in);
+        return props.getProperty("version", UNKNOWN);
+      }
+    } catch (IOException e) {
+      // fall through
+    }
+    return UNKNOWN;
+  }
+
+  private static String jdk(Collection<RunResult> results) {
+    return results.stream()
+        .map(RunResult::getParams)
+        .map(p -> p.getVmName() + " " + p.getJdkVersion())
+        .findFirst()
+        .orElse(System.getProperty("java.vm.name")
+            + " "
+            + System.getProperty("java.version"));
+  }
+
+  // Different benchmark classes may fork with different JVM flags
+  private static String jvmFlags(Collection<RunResult> results) {
+    Set<String> flags = new TreeSet<>();
+    for (RunResult result : results) {
+      BenchmarkParams params = result.getParams();
+      flags.add(String.join(" ", params.getJvmArgs()));
+    }
+    return String.join(" | ", flags);
+  }
+
+  private static String host() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (IOException e) {
+      return UNKNOWN;
+    }
+  }
+
+  private static String gitCommit() {
+    try {
+      Process p = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+          .redirectErrorStream(true)
+          .start();
+      String out = new String(p.getInputStream().readAllBytes(),
+          StandardCharsets.UTF_8).strip();
+      return p.waitFor() == 0 ? out : UNKNOWN;
+    } catch (IOException e) {
+      return UNKNOWN;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return UNKNOWN;
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+package jmh.nl.naturalis.jmh.store;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static jmh.nl.naturalis.jmh.store.RunMetadata.*;
+
+/**
+ * Command-line interface to the {@link ResultStore}:
+ *
+ * <pre>
+ * STORE="java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.store.Store"
+ * # run benchmarks and save the results (all JMH arguments are supported)
+ * $STORE record StringFormatting
+ * # list the stored runs
+ * $STORE list
+ * # compare two runs
+ * $STORE compare previous latest
+ * </pre>
+ */
+public final class Store {
+
+  private static final String USAGE = """
+      Usage:
+        record <jmh arguments>   run benchmarks and save the results
+        list                     list the stored runs
+        compare <run> <run>      compare two runs ("latest", "previous", run id)
+      """;
+
+  private Store() {}
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      System.err.print(USAGE);
+      System.exit(1);
+    }
+    ResultStore store = ResultStore.open();
+    String[] rest = Arrays.copyOfRange(args, 1, args.length);
+    switch (args[0]) {
+      case "record" -> record(store, rest);
+      case "list" -> list(store);
+      case "compare" -> {
+        if (rest.length != 2) {
+          System.err.print(USAGE);
+          System.exit(1);
+        }
+        compare(store, store.find(rest[0]), store.find(rest[1]));
+      }
+      default -> {
+        System.err.print(USAGE);
+        System.exit(1);
+      }
+    }
+  }
+
+  private static void record(ResultStore store, String[] jmhArgs)
+      throws Exception {
+    CommandLineOptions opts = new CommandLineOptions(jmhArgs);
+    Collection<RunResult> results = new Runner(opts).run();
+    Path dir = store.save(results, RunMetadata.collect(results, jmhArgs));
+    System.out.println();
+    System.out.println("Results saved to " + dir);
+  }
+
+  private static void list(ResultStore store) throws Exception {
+    String format = "%-16s  %-14s  %-32s  %-16s  %-10s%n";
+    System.out.printf(format, "Run", "Klojang Check", "JDK", "Host", "Commit");
+    for (Path run : store.runs()) {
+      RunMetadata meta = store.metadata(run);
+      System.out.printf(format,
+          meta.get(RUN_ID),
+          meta.get(KLOJANG_CHECK_VERSION),
+          meta.get(JDK),
+          meta.get(HOST),
+          meta.get(GIT_COMMIT));
+    }
+  }
+
+  private static void compare(ResultStore store, Path before, Path after)
+      throws Exception {
+    for (Path run : List.of(before, after)) {
+      RunMetadata meta = store.metadata(run);
+      System.out.printf("%-7s %s: klojang-check %s, %s, %s, commit %s%n",
+          run == before ? "Before" : "After",
+          meta.get(RUN_ID),
+          meta.get(KLOJANG_CHECK_VERSION),
+          meta.get(JDK),
+          meta.get(HOST),
+          meta.get(GIT_COMMIT));
+      System.out.printf("        JVM flags: %s%n", meta.get(JVM_FLAGS));
+    }
+    System.out.println();
+    Comparison.print(store.summary(before), store.summary(after), System.out);
+  }
+
+}
@@ -0,0 +1,49 @@
+package jmh.nl.naturalis.jmh.store;
+
+/**
+ * The primary result of a single benchmark, as saved in the summary file of a stored
+ * run. The mean, standard deviation and sample count are those of the measurement
+ * iterations, which is all that is needed to compute a confidence interval for the
+ * difference between two runs.
+ *
+ * @param benchmark the benchmark label (class, method and parameters)
+ * @param mode the benchmark mode (avgt, thrpt, ...)
+ * @param unit the score unit
+ * @param n the number of measurement iterations
+ * @param mean the mean score
+ * @param stdDev the standard deviation of the score
+ * @param error the score error at 99.9% confidence, as reported by JMH
+ */
+public record StoredResult(String benchmark,
+    String mode,
+    String unit,
+    long n,
+    double mean,
+    double stdDev,
+    double error) {
+
+  static final String HEADER = "benchmark\tmode\tunit\tn\tmean\tstddev\terror";
+
+  static StoredResult parse(String line) {
+    String[] chunks = line.split("\t");
+    return new StoredResult(chunks[0],
+        chunks[1],
+        chunks[2],
+        Long.parseLong(chunks[3]),
+        Double.parseDouble(chunks[4]),
+        Double.parseDouble(chunks[5]),
+        Double.parseDouble(chunks[6]));
+  }
+
+  String format() {
+    return String.join("\t",
+        benchmark,
+        mode,
+        unit,
+        String.valueOf(n),
+        String.valueOf(mean),
+        String.valueOf(stdDev),
+        String.valueOf(error));
+  }
+
+}
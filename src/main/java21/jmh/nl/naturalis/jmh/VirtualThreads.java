@@ -0,0 +1,220 @@
+package jmh.nl.naturalis.jmh;
+
+import jmh.nl.naturalis.jmh.feed.FailurePattern;
+import jmh.nl.naturalis.jmh.feed.IntRing;
+import jmh.nl.naturalis.jmh.feed.Rings;
+import jmh.nl.naturalis.jmh.latency.LatencyHistogram;
+import jmh.nl.naturalis.jmh.runner.Labels;
+import org.klojang.check.Check;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.klojang.check.CommonChecks.lt;
+
+/*
+ * Each invocation submits a batch of tasks to either a virtual-thread-per-task
+ * executor or a fixed pool of platform threads (one per processor), and waits for
+ * all of them to finish. Each task performs CHECKS_PER_TASK checks. The score is
+ * the time per batch. Each task writes its result and completion time to its own
+ * Task object, which is padded so that no two tasks write to the same cache line.
+ * After each batch, the time from submitting a task to its completion is recorded
+ * in a histogram, which is printed once per fork. The forks run with
+ * -Djdk.tracePinnedThreads, so any virtual thread pinning its carrier while
+ * blocking is reported in the output. Requires JDK 21 (mvn -P jdk21 package).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgs = {"-Xms1G", "-Xmx1G", "-XX:-StackTraceInThrowable",
+    "-Djdk.tracePinnedThreads=short"})
+@Warmup(iterations = 4, time = 3000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 3500, timeUnit = TimeUnit.MILLISECONDS)
+public class VirtualThreads {
+
+  public enum Carrier {
+    VIRTUAL, PLATFORM
+  }
+
+  // Superclass fields are laid out before subclass fields, so the fields of
+  // TaskFields end up between two blocks of 64 bytes of padding
+  private abstract static class TaskPadBefore {
+    long p01, p02, p03, p04, p05, p06, p07, p08;
+  }
+
+  private abstract static class TaskFields extends TaskPadBefore {
+    Validator validator;
+    CountDownLatch done;
+    long submitted;
+    long finished;
+    int failed;
+  }
+
+  private abstract static class TaskPadAfter extends TaskFields {
+    long p11, p12, p13, p14, p15, p16, p17, p18;
+  }
+
+  public final class Task extends TaskPadAfter implements Runnable {
+
+    private final int index;
+
+    Task(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public void run() {
+      failed = validate(validator, index);
+      finished = System.nanoTime();
+      done.countDown();
+    }
+
+  }
+
+  @FunctionalInterface
+  private interface Validator {
+    int check(int small, int big);
+  }
+
+  private static final int CHECKS_PER_TASK = 16;
+
+  @Param({"1000", "10000", "100000"})
+  public int tasks;
+
+  @Param({"VIRTUAL", "PLATFORM"})
+  public Carrier carrier;
+
+  @Param({"100", "99", "50"})
+  public double passRate;
+
+  public ExecutorService executor;
+  public IntRing smalls;
+  public IntRing bigs;
+  public Task[] batch;
+  public LatencyHistogram histogram;
+  public boolean recording;
+
+  @Benchmark
+  public int handCoded_WithMsgArgs() throws InterruptedException {
+    return runBatch(VirtualThreads::handCoded_WithMsgArgs);
+  }
+
+  @Benchmark
+  public int prefabMessage() throws InterruptedException {
+    return runBatch(VirtualThreads::prefabMessage);
+  }
+
+  @Benchmark
+  public int customMessage_WithMsgArgs() throws InterruptedException {
+    return runBatch(VirtualThreads::customMessage);
+  }
+
+  @Benchmark
+  public int customException() throws InterruptedException {
+    return runBatch(VirtualThreads::customException);
+  }
+
+  private int runBatch(Validator validator) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(tasks);
+    for (Task task : batch) {
+      task.validator = validator;
+      task.done = done;
+      task.submitted = System.nanoTime();
+      executor.execute(task);
+    }
+    done.await();
+    int failed = 0;
+    for (Task task : batch) {
+      failed += task.failed;
+    }
+    return failed;
+  }
+
+  private int validate(Validator validator, int task) {
+    int failed = 0;
+    int from = task * CHECKS_PER_TASK;
+    for (int k = 0; k < CHECKS_PER_TASK; ++k) {
+      try {
+        validator.check(smalls.get(from + k), bigs.get(from + k));
+      } catch (IllegalArgumentException e) {
+        ++failed;
+      }
+    }
+    return failed;
+  }
+
+  private static int handCoded_WithMsgArgs(int small, int big) {
+    if (small >= big) {
+      throw new IllegalArgumentException(
+          String.format("%d arg must be < %d", small, big));
+    }
+    return small;
+  }
+
+  private static int prefabMessage(int small, int big) {
+    return Check.that(small).is(lt(), big).ok();
+  }
+
+  private static int customMessage(int small, int big) {
+    return Check.that(small).is(lt(), big, "${arg} must be < ${obj}").ok();
+  }
+
+  private static int customException(int small, int big) {
+    return Check.that(small)
+        .is(lt(), big, () -> new IllegalArgumentException("argument too big"))
+        .ok();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    executor = carrier == Carrier.VIRTUAL
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    Random rand = Rings.random();
+    boolean[] fails = FailurePattern.PERIODIC.layout(Rings.DEFAULT_SIZE,
+        passRate,
+        rand);
+    smalls = Rings.ints(i -> fails[i]
+        ? rand.nextInt(100_000_000, 100_500_000)
+        : rand.nextInt(13, 97));
+    bigs = Rings.ints(i -> rand.nextInt(1000, 2000));
+    batch = new Task[tasks];
+    for (int t = 0; t < tasks; ++t) {
+      batch[t] = new Task(t);
+    }
+    histogram = new LatencyHistogram();
+  }
+
+  @Setup(Level.Iteration)
+  public void beforeIteration(IterationParams params) {
+    recording = params.getType() == IterationType.MEASUREMENT;
+  }
+
+  // Invocations take milliseconds, so the cost of an invocation-level fixture is
+  // negligible here
+  @TearDown(Level.Invocation)
+  public void afterBatch() {
+    if (recording) {
+      for (Task task : batch) {
+        histogram.record(task.finished - task.submitted);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown(BenchmarkParams params) throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    System.out.printf("%n%s%n  task latency: %s%n",
+        Labels.label(params),
+        histogram.summary());
+  }
+
+}
@@ -1,20 +1,13 @@
 #!/bin/bash
 
-java -jar target/benchmarks.jar  ComposeSugarSyntax >> ~/tmp/ComposeSugarSyntax-1.txt
-sleep 90
+STORE="java -cp target/benchmarks.jar jmh.nl.naturalis.jmh.store.Store"
 
-java -jar target/benchmarks.jar  StringFormatting >> ~/tmp/StringFormatting-1.txt
-sleep 90
+for i in 1 2 3; do
+  $STORE record ComposeSugarSyntax
+  sleep 90
 
-java -jar target/benchmarks.jar  ComposeSugarSyntax >> ~/tmp/ComposeSugarSyntax-2.txt
-sleep 90
-
-java -jar target/benchmarks.jar  StringFormatting >> ~/tmp/StringFormatting-2.txt
-sleep 90
-
-java -jar target/benchmarks.jar  ComposeSugarSyntax >> ~/tmp/ComposeSugarSyntax-3.txt
-sleep 90
-
-java -jar target/benchmarks.jar  StringFormatting >> ~/tmp/StringFormatting-3.txt
-sleep 90
+  $STORE record StringFormatting
+  sleep 90
+done
 
+$STORE list